@@ -0,0 +1,201 @@
+package com.invy.backend.benchmark;
+
+import com.invy.backend.entity.IdSequences;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * IDENTITY 와 테이블 기반 pooled-lo ID 의 대량 INSERT 비용 비교
+ * - IDENTITY: 생성된 키를 받아야 하므로 Hibernate 가 행마다 INSERT 를 바로 실행 (배치 불가)
+ * - pooled-lo: ID 블록을 미리 할당받아 hibernate.jdbc.batch_size 단위로 배치 INSERT
+ * 답변(answers) 과 같은 형태의 벤치마크 전용 엔티티로 측정 (애플리케이션과 같은 할당 크기/배치 크기)
+ *
+ * 기본은 인메모리 H2 이며, 네트워크 왕복이 있는 실제 DB 에서는 차이가 더 커짐
+ * 예: ./gradlew jmh -PjmhIncludes=BatchInsertBenchmark (jdbcUrl 파라미터로 MySQL 지정 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchInsertBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"jdbc:h2:mem:batch_insert;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityAnswer.class)
+                .addAnnotatedClass(PooledAnswer.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, jdbcUrl)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(IdSequences.ALLOCATION_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM IdentityAnswer").executeUpdate();
+            session.createMutationQuery("DELETE FROM PooledAnswer").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long identityInsert() {
+        return insert(IdentityAnswer::new);
+    }
+
+    @Benchmark
+    public long pooledLoInsert() {
+        return insert(PooledAnswer::new);
+    }
+
+    /**
+     * 배치 크기마다 flush/clear 하며 rows 개의 행 저장
+     * @return 마지막 행 ID (결과 소거 방지)
+     */
+    private long insert(LongFunction<AnswerRow> factory) {
+        return sessionFactory.fromTransaction(session -> {
+            AnswerRow last = null;
+            for (int i = 0; i < rows; i++) {
+                last = factory.apply(i);
+                session.persist(last);
+                if ((i + 1) % IdSequences.ALLOCATION_SIZE == 0) {
+                    flushAndClear(session);
+                }
+            }
+            flushAndClear(session);
+            return last != null ? last.getId() : 0L;
+        });
+    }
+
+    private static void flushAndClear(Session session) {
+        session.flush();
+        session.clear();
+    }
+
+    /**
+     * 벤치마크 엔티티 공통 형태 (answers 테이블의 주요 컬럼)
+     */
+    interface AnswerRow {
+        Long getId();
+    }
+
+    @Entity(name = "IdentityAnswer")
+    @Table(name = "benchmark_identity_answers")
+    static class IdentityAnswer implements AnswerRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(columnDefinition = "TEXT", nullable = false)
+        private String content;
+
+        private long questionId;
+
+        private long userId;
+
+        private boolean isAnonymous;
+
+        private LocalDateTime createdAt;
+
+        IdentityAnswer() {
+        }
+
+        IdentityAnswer(long i) {
+            this.content = "benchmark answer " + i;
+            this.questionId = i % 100 + 1;
+            this.userId = i % 1_000 + 1;
+            this.isAnonymous = i % 10 == 0;
+            this.createdAt = LocalDateTime.now();
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    @Entity(name = "PooledAnswer")
+    @Table(name = "benchmark_pooled_answers")
+    static class PooledAnswer implements AnswerRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "benchmark_answer_id")
+        @TableGenerator(name = "benchmark_answer_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+                valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "benchmark_pooled_answers",
+                allocationSize = IdSequences.ALLOCATION_SIZE)
+        private Long id;
+
+        @Column(columnDefinition = "TEXT", nullable = false)
+        private String content;
+
+        private long questionId;
+
+        private long userId;
+
+        private boolean isAnonymous;
+
+        private LocalDateTime createdAt;
+
+        PooledAnswer() {
+        }
+
+        PooledAnswer(long i) {
+            this.content = "benchmark answer " + i;
+            this.questionId = i % 100 + 1;
+            this.userId = i % 1_000 + 1;
+            this.isAnonymous = i % 10 == 0;
+            this.createdAt = LocalDateTime.now();
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.invy.backend.benchmark;
+
+import com.invy.backend.entity.Answer;
+import com.invy.backend.entity.Bookmark;
+import com.invy.backend.entity.Category;
+import com.invy.backend.entity.Keyword;
+import com.invy.backend.entity.Question;
+import com.invy.backend.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 벤치마크용 엔티티 생성 도우미
+ * 실제 응답과 비슷한 크기의 질문/답변/북마크를 DB 없이 메모리에서 구성
+ */
+final class BenchmarkFixtures {
+
+    static final int KEYWORDS_PER_QUESTION = 5;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Category category() {
+        return Category.builder()
+                .id(1L)
+                .name("데이터베이스")
+                .description("트랜잭션, 인덱스, 정규화 등 데이터베이스 관련 질문")
+                .questions(new ArrayList<>())
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static Question question(long id, Category category) {
+        Set<Keyword> keywords = new HashSet<>();
+        for (int i = 0; i < KEYWORDS_PER_QUESTION; i++) {
+            keywords.add(Keyword.builder()
+                    .id(id * KEYWORDS_PER_QUESTION + i)
+                    .name("keyword-" + i)
+                    .questions(new HashSet<>())
+                    .createdAt(NOW)
+                    .updatedAt(NOW)
+                    .build());
+        }
+
+        return Question.builder()
+                .id(id)
+                .title("트랜잭션 격리 수준의 종류와 각 수준에서 발생할 수 있는 문제를 설명하세요 #" + id)
+                .content("READ UNCOMMITTED, READ COMMITTED, REPEATABLE READ, SERIALIZABLE 의 차이를 설명하고 "
+                        + "Dirty Read, Non-Repeatable Read, Phantom Read 가 각각 어느 수준에서 발생하는지 설명하세요.")
+                .defaultAnswer("격리 수준이 높아질수록 동시성은 낮아지고 일관성은 높아집니다. ".repeat(8))
+                .category(category)
+                .keywords(keywords)
+                .answers(new ArrayList<>())
+                .bookmarks(new HashSet<>())
+                .lgtmCount(42)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .name("사용자" + id)
+                .profileImage("https://example.com/profile/" + id + ".png")
+                .provider(User.AuthProvider.GOOGLE)
+                .providerId("google-" + id)
+                .role(User.Role.ROLE_USER)
+                .bookmarks(new HashSet<>())
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static Answer answer(long id, Question question, User user) {
+        return Answer.builder()
+                .id(id)
+                .content("REPEATABLE READ 에서는 같은 트랜잭션 안에서 같은 행을 다시 읽어도 같은 값을 보장합니다. ".repeat(4))
+                .question(question)
+                .user(user)
+                .isAnonymous(false)
+                .isSelected(false)
+                .lgtmCount(7)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static Bookmark bookmark(long id, Question question, User user) {
+        return Bookmark.builder()
+                .id(id)
+                .question(question)
+                .user(user)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.invy.backend.benchmark;
+
+import com.invy.backend.dto.AnswerDto;
+import com.invy.backend.dto.BookmarkDto;
+import com.invy.backend.dto.CategoryDto;
+import com.invy.backend.dto.QuestionDto;
+import com.invy.backend.entity.Answer;
+import com.invy.backend.entity.Bookmark;
+import com.invy.backend.entity.Category;
+import com.invy.backend.entity.Question;
+import com.invy.backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO 변환 비용 측정
+ * - QuestionDto (카테고리 사전의 DTO 사용, 서비스와 같은 경로)
+ * - AnswerDto (작성자 포함)
+ * - BookmarkDto (질문 DTO 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Question question;
+    private CategoryDto categoryDto;
+    private Answer answer;
+    private Bookmark bookmark;
+
+    @Setup
+    public void setUp() {
+        Category category = BenchmarkFixtures.category();
+        User user = BenchmarkFixtures.user(1L);
+        question = BenchmarkFixtures.question(1L, category);
+        categoryDto = CategoryDto.fromEntity(category);
+        answer = BenchmarkFixtures.answer(1L, question, user);
+        bookmark = BenchmarkFixtures.bookmark(1L, question, user);
+    }
+
+    @Benchmark
+    public QuestionDto questionDto() {
+        return QuestionDto.fromEntity(question, true, 42, categoryDto);
+    }
+
+    @Benchmark
+    public AnswerDto answerDto() {
+        return AnswerDto.fromEntity(answer, false, 7);
+    }
+
+    @Benchmark
+    public BookmarkDto bookmarkDto() {
+        return BookmarkDto.fromEntity(bookmark, 42, categoryDto);
+    }
+}
@@ -0,0 +1,76 @@
+package com.invy.backend.benchmark;
+
+import com.invy.backend.security.JwtTokenProvider;
+import com.invy.backend.security.TokenRevocationList;
+import com.invy.backend.security.UserPrincipal;
+import com.invy.backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 요청 경로 비용 측정
+ * - 액세스 토큰 생성
+ * - 토큰 검증 (서명 검증 + 클레임 파싱)
+ * - 요청 인증 (검증 캐시 적중 + 폐기 여부 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipal userPrincipal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // 폐기 목록의 저장소는 시작 시 적재/주기적 동기화에만 쓰이므로 벤치마크에서는 필요 없음
+        TokenRevocationList revocationList = new TokenRevocationList(null, 100_000, 300_000);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10_000, new SimpleMeterRegistry());
+
+        jwtTokenProvider = new JwtTokenProvider(verifiedTokenCache, revocationList);
+        setField("secretKey", SECRET);
+        setField("accessTokenValidity", TimeUnit.HOURS.toMillis(1));
+        setField("refreshTokenValidity", TimeUnit.DAYS.toMillis(14));
+        jwtTokenProvider.init();
+
+        userPrincipal = new UserPrincipal(1L, "user1@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = jwtTokenProvider.createAccessToken(userPrincipal);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(userPrincipal);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtTokenProvider, value);
+    }
+}
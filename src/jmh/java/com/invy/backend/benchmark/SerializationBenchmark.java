@@ -0,0 +1,61 @@
+package com.invy.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.invy.backend.dto.ApiResponse;
+import com.invy.backend.dto.CategoryDto;
+import com.invy.backend.dto.QuestionDto;
+import com.invy.backend.entity.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문 목록 응답 ApiResponse<Page<QuestionDto>> 의 JSON 직렬화 비용 측정
+ * ObjectMapper 는 Spring Boot 기본 설정과 같이 모듈 자동 등록, 날짜는 ISO 문자열로 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<Page<QuestionDto>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writer();
+
+        Category category = BenchmarkFixtures.category();
+        CategoryDto categoryDto = CategoryDto.fromEntity(category);
+        List<QuestionDto> questions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            questions.add(QuestionDto.fromEntity(BenchmarkFixtures.question(i + 1L, category), i % 3 == 0, i, categoryDto));
+        }
+        response = ApiResponse.success(new PageImpl<>(questions, PageRequest.of(0, pageSize), 1000));
+    }
+
+    @Benchmark
+    public byte[] questionPage() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,335 @@
+package com.invy.backend.loadtest;
+
+import com.invy.backend.config.IdSequenceInitializer;
+import com.invy.backend.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 데이터셋 생성기
+ * - 같은 시드와 크기 설정이면 항상 같은 행을 같은 ID 로 생성 (실행 간 결과 비교 가능)
+ * - 질문별 답변/반응/북마크 수와 키워드 사용 빈도는 Zipf 분포로 편중시켜 인기 질문을 재현
+ * - 반응/북마크의 (사용자, 대상) 유니크 제약을 만족하도록 대상별로 서로 다른 사용자를 배정
+ * - lgtm_count 는 생성한 반응 수와 일치하도록 설정
+ *
+ * 인메모리 색인(검색, 키워드 자동완성)이 애플리케이션 준비 이벤트에서 구성되기 전에 실행되도록 ApplicationRunner 로 동작
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final double QUESTION_REACTION_RATIO = 0.3;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String[] TOPICS = {
+            "java", "spring", "jpa", "hibernate", "mysql", "index", "transaction", "isolation", "lock", "deadlock",
+            "network", "tcp", "http", "tls", "dns", "os", "process", "thread", "memory", "gc",
+            "jvm", "kotlin", "react", "javascript", "typescript", "browser", "cache", "redis", "kafka", "docker",
+            "kubernetes", "linux", "algorithm", "sorting", "hashing", "tree", "graph", "dp", "greedy", "security",
+            "oauth", "jwt", "cors", "rest", "grpc", "design-pattern", "solid", "testing", "msa", "cloud"
+    };
+
+    private static final String[] WORDS = {
+            "설명하세요", "차이점은", "무엇인가요", "동작", "원리", "장단점", "사용", "경우", "발생", "문제",
+            "해결", "방법", "성능", "구조", "특징", "비교", "예시", "구현", "최적화", "설계"
+    };
+
+    private final LoadTestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryService categoryService;
+    private final IdSequenceInitializer idSequenceInitializer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+
+        insertUsers();
+        insertCategories();
+        insertKeywords();
+        insertQuestions(random.split());
+        insertQuestionKeywords(random.split());
+        int[] answerCounts = insertAnswers(random.split());
+        int[][] reactionCounts = countReactions(random.split(), answerCounts);
+        insertQuestionReactions(reactionCounts[0]);
+        insertAnswerReactions(reactionCounts[1]);
+        insertBookmarks(random.split());
+        restartIdentities();
+
+        categoryService.reload();
+        log.info("Dataset generated in {} s (seed {}): {} questions, {} answers, {} reactions, {} bookmarks",
+                (System.currentTimeMillis() - started) / 1000, properties.getSeed(), properties.getQuestions(),
+                properties.getAnswers(), properties.getReactions(), properties.getBookmarks());
+    }
+
+    private void insertUsers() {
+        int total = properties.getUsers() + 1 + properties.getDisposableUsers();
+        long adminId = properties.adminUserId();
+        BatchInserter users = new BatchInserter("INSERT INTO users (id, email, name, profile_image, provider, provider_id, role, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (long id = 1; id <= total; id++) {
+            Timestamp time = timestamp(id);
+            users.add(id, email(id), "user" + id, null, "GOOGLE", "google-" + id,
+                    id == adminId ? "ROLE_ADMIN" : "ROLE_USER", time, time);
+        }
+        users.flush();
+    }
+
+    private void insertCategories() {
+        BatchInserter categories = new BatchInserter("INSERT INTO categories (id, name, description, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)");
+        for (long id = 1; id <= properties.getCategories(); id++) {
+            Timestamp time = timestamp(id);
+            categories.add(id, "category-" + id, "카테고리 " + id + " 질문 모음", time, time);
+        }
+        categories.flush();
+    }
+
+    private void insertKeywords() {
+        BatchInserter keywords = new BatchInserter("INSERT INTO keywords (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)");
+        for (long id = 1; id <= properties.getKeywords(); id++) {
+            Timestamp time = timestamp(id);
+            keywords.add(id, keywordName(id), time, time);
+        }
+        keywords.flush();
+    }
+
+    private void insertQuestions(SplittableRandom random) {
+        BatchInserter questions = new BatchInserter("INSERT INTO questions (id, title, content, default_answer, category_id, " +
+                "lgtm_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, ?, ?)");
+        for (long id = 1; id <= properties.getQuestions(); id++) {
+            Timestamp time = timestamp(id);
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+            questions.add(id,
+                    topic + " " + sentence(random, 6) + " #" + id,
+                    sentence(random, 40),
+                    sentence(random, 120),
+                    1 + random.nextInt(properties.getCategories()),
+                    time, time);
+        }
+        questions.flush();
+    }
+
+    private void insertQuestionKeywords(SplittableRandom random) {
+        ZipfSampler keywordSampler = new ZipfSampler(properties.getKeywords(), 1.0);
+        BatchInserter questionKeywords = new BatchInserter("INSERT INTO question_keywords (question_id, keyword_id) VALUES (?, ?)");
+        for (long questionId = 1; questionId <= properties.getQuestions(); questionId++) {
+            // 질문당 1~6개, 2~3개가 가장 흔함
+            int fanOut = Math.min(properties.getKeywords(), 1 + random.nextInt(3) + random.nextInt(3));
+            Set<Integer> keywordIds = new LinkedHashSet<>();
+            while (keywordIds.size() < fanOut) {
+                keywordIds.add(keywordSampler.next(random));
+            }
+            for (int keywordId : keywordIds) {
+                questionKeywords.add(questionId, keywordId);
+            }
+        }
+        questionKeywords.flush();
+    }
+
+    /**
+     * 답변 생성 (인기 질문에 답변이 몰리도록 Zipf 분포로 질문 배정)
+     * @return 답변 ID(1부터) -> 질문 ID 배열 (인덱스 0 미사용)
+     */
+    private int[] insertAnswers(SplittableRandom random) {
+        ZipfSampler questionSampler = new ZipfSampler(properties.getQuestions(), 0.9);
+        int[] questionOfAnswer = new int[properties.getAnswers() + 1];
+        BatchInserter answers = new BatchInserter("INSERT INTO answers (id, content, question_id, user_id, is_anonymous, " +
+                "is_selected, lgtm_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, FALSE, 0, ?, ?)");
+        for (int id = 1; id <= properties.getAnswers(); id++) {
+            int questionId = questionSampler.next(random);
+            questionOfAnswer[id] = questionId;
+            Timestamp time = timestamp(id);
+            answers.add(id, sentence(random, 30 + random.nextInt(60)), questionId,
+                    1 + random.nextInt(properties.getUsers()), random.nextInt(10) == 0, time, time);
+        }
+        answers.flush();
+        return questionOfAnswer;
+    }
+
+    /**
+     * 질문/답변별 반응 수 배정 (대상별 최대 사용자 수로 제한)
+     * @return [질문별 반응 수, 답변별 반응 수]
+     */
+    private int[][] countReactions(SplittableRandom random, int[] questionOfAnswer) {
+        int[] questionReactions = new int[properties.getQuestions() + 1];
+        int[] answerReactions = new int[properties.getAnswers() + 1];
+        ZipfSampler questionSampler = new ZipfSampler(properties.getQuestions(), 0.9);
+        ZipfSampler answerSampler = new ZipfSampler(properties.getAnswers(), 0.8);
+
+        for (int i = 0; i < properties.getReactions(); i++) {
+            if (random.nextDouble() < QUESTION_REACTION_RATIO) {
+                int questionId = questionSampler.next(random);
+                if (questionReactions[questionId] < properties.getUsers()) {
+                    questionReactions[questionId]++;
+                }
+            } else {
+                int answerId = answerSampler.next(random);
+                if (answerReactions[answerId] < properties.getUsers()) {
+                    answerReactions[answerId]++;
+                }
+            }
+        }
+        return new int[][]{questionReactions, answerReactions};
+    }
+
+    private void insertQuestionReactions(int[] counts) {
+        BatchInserter reactions = new BatchInserter("INSERT INTO reactions (user_id, question_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?)");
+        insertReactions(reactions, counts, 11L);
+        jdbcTemplate.batchUpdate("UPDATE questions SET lgtm_count = ? WHERE id = ?", lgtmUpdates(counts));
+    }
+
+    private void insertAnswerReactions(int[] counts) {
+        BatchInserter reactions = new BatchInserter("INSERT INTO reactions (user_id, answer_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?)");
+        insertReactions(reactions, counts, 13L);
+        jdbcTemplate.batchUpdate("UPDATE answers SET lgtm_count = ? WHERE id = ?", lgtmUpdates(counts));
+    }
+
+    private void insertReactions(BatchInserter reactions, int[] counts, long salt) {
+        for (int targetId = 1; targetId < counts.length; targetId++) {
+            for (int i = 0; i < counts[targetId]; i++) {
+                Timestamp time = timestamp(targetId + i);
+                reactions.add(distinctUser(targetId * salt, i), targetId, time, time);
+            }
+        }
+        reactions.flush();
+    }
+
+    private void insertBookmarks(SplittableRandom random) {
+        int[] counts = new int[properties.getQuestions() + 1];
+        ZipfSampler questionSampler = new ZipfSampler(properties.getQuestions(), 0.9);
+        for (int i = 0; i < properties.getBookmarks(); i++) {
+            int questionId = questionSampler.next(random);
+            if (counts[questionId] < properties.getUsers()) {
+                counts[questionId]++;
+            }
+        }
+
+        BatchInserter bookmarks = new BatchInserter("INSERT INTO bookmarks (user_id, question_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?)");
+        for (int questionId = 1; questionId < counts.length; questionId++) {
+            for (int i = 0; i < counts[questionId]; i++) {
+                Timestamp time = timestamp(questionId + i);
+                bookmarks.add(distinctUser(questionId * 17L, i), questionId, time, time);
+            }
+        }
+        bookmarks.flush();
+    }
+
+    /**
+     * 이후 애플리케이션이 추가하는 행이 생성된 ID 와 겹치지 않도록 식별자 시작 값을 재설정
+     * (IDENTITY 컬럼은 RESTART, 테이블 기반 ID 는 id_sequences 보정)
+     */
+    private void restartIdentities() {
+        for (String table : List.of("users", "categories", "keywords", "reactions", "bookmarks")) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId + 1));
+        }
+        idSequenceInitializer.synchronize();
+    }
+
+    /**
+     * 대상마다 서로 다른 사용자를 순서대로 배정
+     * 사용자 수와 서로소인 보폭으로 순회하므로 i < 사용자 수 범위에서 중복이 없음
+     */
+    private long distinctUser(long targetKey, int i) {
+        int users = properties.getUsers();
+        long stride = coprimeStride(users);
+        return Math.floorMod(targetKey + i * stride, users) + 1;
+    }
+
+    private static long coprimeStride(int n) {
+        long stride = 7919;
+        while (gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static List<Object[]> lgtmUpdates(int[] counts) {
+        List<Object[]> updates = new ArrayList<>();
+        for (int id = 1; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                updates.add(new Object[]{counts[id], id});
+            }
+        }
+        return updates;
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(random.nextInt(4) == 0 ? TOPICS[random.nextInt(TOPICS.length)] : WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    static String email(long userId) {
+        return "user" + userId + "@loadtest.invy";
+    }
+
+    static String keywordName(long keywordId) {
+        String topic = TOPICS[(int) ((keywordId - 1) % TOPICS.length)];
+        long round = (keywordId - 1) / TOPICS.length;
+        return round == 0 ? topic : topic + "-" + round;
+    }
+
+    private static Timestamp timestamp(long offsetSeconds) {
+        return Timestamp.valueOf(BASE_TIME.plusSeconds(offsetSeconds));
+    }
+
+    /**
+     * 일정 크기마다 JDBC 배치로 실행하는 INSERT 도우미
+     */
+    private final class BatchInserter {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private BatchInserter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.invy.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클라이언트 1개 전용 지연 시간 기록기 (스레드 간 공유하지 않으므로 동기화 없음)
+ * 엔드포인트별로 마이크로초 단위 지연 시간을 모두 보관하고, 측정 종료 후 LoadReport 에서 병합
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos / 1_000, error);
+    }
+
+    Map<String, Samples> samples() {
+        return samples;
+    }
+
+    /**
+     * 엔드포인트 하나의 지연 시간 표본 (크기가 자동으로 늘어나는 long 배열)
+     */
+    static final class Samples {
+
+        private long[] latenciesMicros = new long[1_024];
+        private int size;
+        private long errors;
+
+        void add(long latencyMicros, boolean error) {
+            if (size == latenciesMicros.length) {
+                latenciesMicros = Arrays.copyOf(latenciesMicros, size * 2);
+            }
+            latenciesMicros[size++] = latencyMicros;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latenciesMicros.length) {
+                latenciesMicros = Arrays.copyOf(latenciesMicros, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.latenciesMicros, 0, latenciesMicros, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latenciesMicros, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+    }
+}
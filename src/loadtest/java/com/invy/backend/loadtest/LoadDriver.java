@@ -0,0 +1,453 @@
+package com.invy.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invy.backend.security.JwtTokenProvider;
+import com.invy.backend.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 발생기
+ * - 고정 수의 동시 클라이언트가 워밍업 후 측정 시간 동안 쉬지 않고 요청 (closed loop)
+ * - 클라이언트 0 은 관리자, 나머지는 설정 비율에 따라 인증/익명 클라이언트
+ * - 클라이언트마다 시드에서 파생한 난수열로 시나리오와 대상을 선택하므로 요청 순서가 실행 간 동일
+ * - 모든 컨트롤러의 엔드포인트를 가중치에 따라 호출하고, 엔드포인트 템플릿 단위로 지연 시간 기록
+ */
+@Slf4j
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] ANSWER_SORTS = {"ranked", "newest", "top"};
+
+    private final LoadTestProperties properties;
+    private final String baseUrl;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    private final ZipfSampler questionSampler;
+    private final ZipfSampler keywordSampler;
+    private final AtomicLong nextDisposableUserId;
+    private final ConcurrentLinkedQueue<Long> createdAnswerIds = new ConcurrentLinkedQueue<>();
+
+    LoadDriver(LoadTestProperties properties, int port, JwtTokenProvider jwtTokenProvider) {
+        this.properties = properties;
+        this.baseUrl = "http://localhost:" + port;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.questionSampler = new ZipfSampler(properties.getQuestions(), 0.9);
+        this.keywordSampler = new ZipfSampler(properties.getKeywords(), 1.0);
+        this.nextDisposableUserId = new AtomicLong(properties.firstDisposableUserId());
+    }
+
+    /**
+     * 워밍업과 측정을 실행하고 보고서 생성
+     * @return 측정 구간의 보고서
+     */
+    LoadReport run() throws InterruptedException {
+        int clients = properties.getClients();
+        int authenticated = (int) Math.round((clients - 1) * properties.getAuthenticatedRatio());
+        SplittableRandom seedRandom = new SplittableRandom(properties.getSeed());
+
+        long start = System.nanoTime();
+        long measureStart = start + Duration.ofSeconds(properties.getWarmupSeconds()).toNanos();
+        long end = measureStart + Duration.ofSeconds(properties.getDurationSeconds()).toNanos();
+
+        List<Client> all = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            ClientType type = i == 0 ? ClientType.ADMIN : i <= authenticated ? ClientType.AUTHENTICATED : ClientType.ANONYMOUS;
+            long userId = type == ClientType.ADMIN ? properties.adminUserId() : 1 + (long) i * properties.getUsers() / clients;
+            all.add(new Client(type, userId, seedRandom.split(), measureStart, end));
+        }
+        log.info("Starting load: {} clients ({} authenticated, 1 admin), warmup {} s, measure {} s",
+                clients, authenticated, properties.getWarmupSeconds(), properties.getDurationSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Client client : all) {
+                futures.add(executor.submit(client::runLoop));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Load client failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<LatencyRecorder> recorders = all.stream().map(client -> client.measured).toList();
+        return LoadReport.of(properties, recorders, end - measureStart);
+    }
+
+    private enum ClientType {
+        ANONYMOUS, AUTHENTICATED, ADMIN
+    }
+
+    /**
+     * 시나리오와 가중치 (클라이언트 유형별로 사용 가능한 시나리오만 선택)
+     */
+    private enum Scenario {
+        LIST_QUESTIONS(20, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        LIST_QUESTIONS_BY_CATEGORY(10, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        CURSOR_QUESTIONS(10, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        CURSOR_QUESTIONS_BY_CATEGORY(5, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        QUESTION_DETAIL(25, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        QUESTION_ANSWERS(8, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        TRENDING_QUESTIONS(6, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        SEARCH_QUESTIONS(5, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        LIST_KEYWORDS(2, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        SEARCH_KEYWORDS(3, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        SUGGEST_KEYWORDS(8, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        LIST_CATEGORIES(4, ClientType.ANONYMOUS, ClientType.AUTHENTICATED),
+        TOGGLE_BOOKMARK(4, ClientType.AUTHENTICATED),
+        TOGGLE_QUESTION_LGTM(6, ClientType.AUTHENTICATED),
+        LIST_BOOKMARKS(5, ClientType.AUTHENTICATED),
+        LIST_BOOKMARKS_BY_CATEGORY(2, ClientType.AUTHENTICATED),
+        MY_ANSWERS(3, ClientType.AUTHENTICATED),
+        MY_REACTIONS(3, ClientType.AUTHENTICATED),
+        CREATE_ANSWER(3, ClientType.AUTHENTICATED),
+        SELECT_ANSWER(1, ClientType.AUTHENTICATED),
+        TOGGLE_ANSWER_LGTM(6, ClientType.AUTHENTICATED),
+        REFRESH_TOKEN(1, ClientType.AUTHENTICATED),
+        LOGOUT(1, ClientType.AUTHENTICATED),
+        DELETE_ACCOUNT(1, ClientType.AUTHENTICATED),
+        ADMIN_CREATE_QUESTION(3, ClientType.ADMIN),
+        ADMIN_UPDATE_QUESTION(3, ClientType.ADMIN),
+        ADMIN_DELETE_QUESTION(2, ClientType.ADMIN),
+        ADMIN_DELETE_ANSWER(2, ClientType.ADMIN),
+        ADMIN_QUESTION_DETAIL(4, ClientType.ADMIN);
+
+        private final int weight;
+        private final List<ClientType> clientTypes;
+
+        Scenario(int weight, ClientType... clientTypes) {
+            this.weight = weight;
+            this.clientTypes = List.of(clientTypes);
+        }
+
+        static Scenario[] weightedFor(ClientType type) {
+            List<Scenario> weighted = new ArrayList<>();
+            for (Scenario scenario : values()) {
+                if (scenario.clientTypes.contains(type)) {
+                    for (int i = 0; i < scenario.weight; i++) {
+                        weighted.add(scenario);
+                    }
+                }
+            }
+            return weighted.toArray(Scenario[]::new);
+        }
+    }
+
+    /**
+     * 동시 클라이언트 1개 (전용 스레드에서 실행)
+     */
+    private final class Client {
+
+        private final ClientType type;
+        private final long userId;
+        private final SplittableRandom random;
+        private final long measureStart;
+        private final long end;
+        private final Scenario[] scenarios;
+
+        private final LatencyRecorder warmup = new LatencyRecorder();
+        private final LatencyRecorder measured = new LatencyRecorder();
+        private final Deque<Long> ownAnswerIds = new ArrayDeque<>();
+        private final Deque<Long> ownQuestionIds = new ArrayDeque<>();
+
+        private String accessToken;
+        private String refreshToken;
+        private String nextCursor;
+
+        private Client(ClientType type, long userId, SplittableRandom random, long measureStart, long end) {
+            this.type = type;
+            this.userId = userId;
+            this.random = random;
+            this.measureStart = measureStart;
+            this.end = end;
+            this.scenarios = Scenario.weightedFor(type);
+            if (type != ClientType.ANONYMOUS) {
+                issueTokens();
+            }
+        }
+
+        private void runLoop() {
+            try {
+                while (System.nanoTime() < end) {
+                    execute(scenarios[random.nextInt(scenarios.length)]);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void execute(Scenario scenario) throws InterruptedException {
+            switch (scenario) {
+                case LIST_QUESTIONS -> get("GET /api/v1/questions", "/api/v1/questions?page=" + page() + "&size=20");
+                case LIST_QUESTIONS_BY_CATEGORY -> get("GET /api/v1/questions/category/{categoryId}",
+                        "/api/v1/questions/category/" + category() + "?page=" + page() + "&size=20");
+                case CURSOR_QUESTIONS -> followCursor("GET /api/v1/questions/cursor", "/api/v1/questions/cursor?size=20");
+                case CURSOR_QUESTIONS_BY_CATEGORY -> followCursor("GET /api/v1/questions/category/{categoryId}/cursor",
+                        "/api/v1/questions/category/" + category() + "/cursor?size=20");
+                case QUESTION_DETAIL, ADMIN_QUESTION_DETAIL ->
+                        get("GET /api/v1/questions/{questionId}", "/api/v1/questions/" + question());
+                case QUESTION_ANSWERS -> get("GET /api/v1/questions/{questionId}/answers",
+                        "/api/v1/questions/" + question() + "/answers?sort=" + answerSort() + "&size=20");
+                case TRENDING_QUESTIONS -> get("GET /api/v1/questions/trending", random.nextInt(4) == 0
+                        ? "/api/v1/questions/trending?categoryId=" + category() + "&size=20"
+                        : "/api/v1/questions/trending?size=20");
+                case SEARCH_QUESTIONS -> get("GET /api/v1/questions/search",
+                        "/api/v1/questions/search?query=" + encode(keywordPrefix(6)) + "&page=0&size=20");
+                case LIST_KEYWORDS -> get("GET /api/v1/keywords", "/api/v1/keywords");
+                case SEARCH_KEYWORDS -> get("GET /api/v1/keywords/search",
+                        "/api/v1/keywords/search?query=" + encode(keywordPrefix(4)));
+                case SUGGEST_KEYWORDS -> get("GET /api/v1/keywords/suggest",
+                        "/api/v1/keywords/suggest?query=" + encode(keywordPrefix(1 + random.nextInt(3))));
+                case LIST_CATEGORIES -> get("GET /api/v1/categories", "/api/v1/categories");
+                case TOGGLE_BOOKMARK -> post("POST /api/v1/questions/{questionId}/bookmark",
+                        "/api/v1/questions/" + question() + "/bookmark", null);
+                case TOGGLE_QUESTION_LGTM -> post("POST /api/v1/questions/{questionId}/lgtm",
+                        "/api/v1/questions/" + question() + "/lgtm", null);
+                case LIST_BOOKMARKS -> get("GET /api/v1/bookmarks", "/api/v1/bookmarks?page=0&size=20");
+                case LIST_BOOKMARKS_BY_CATEGORY -> get("GET /api/v1/bookmarks/category/{categoryId}",
+                        "/api/v1/bookmarks/category/" + category() + "?page=0&size=20");
+                case MY_ANSWERS -> get("GET /api/v1/users/me/answers", "/api/v1/users/me/answers?size=20");
+                case MY_REACTIONS -> get("GET /api/v1/users/me/reactions", "/api/v1/users/me/reactions?size=20");
+                case CREATE_ANSWER -> createAnswer();
+                case SELECT_ANSWER -> selectAnswer();
+                case TOGGLE_ANSWER_LGTM -> post("POST /api/v1/answers/{answerId}/lgtm",
+                        "/api/v1/answers/" + (1 + random.nextInt(properties.getAnswers())) + "/lgtm", null);
+                case REFRESH_TOKEN -> refresh();
+                case LOGOUT -> logout();
+                case DELETE_ACCOUNT -> deleteAccount();
+                case ADMIN_CREATE_QUESTION -> adminCreateQuestion();
+                case ADMIN_UPDATE_QUESTION -> adminUpdateQuestion();
+                case ADMIN_DELETE_QUESTION -> adminDeleteQuestion();
+                case ADMIN_DELETE_ANSWER -> adminDeleteAnswer();
+            }
+        }
+
+        private void followCursor(String endpoint, String path) throws InterruptedException {
+            // 절반은 직전 응답의 다음 커서를 이어서 조회 (깊은 페이지 포함)
+            String url = nextCursor != null && random.nextBoolean() ? path + "&cursor=" + encode(nextCursor) : path;
+            JsonNode data = get(endpoint, url);
+            nextCursor = data != null && data.path("hasNext").asBoolean() ? data.path("next").asText(null) : null;
+        }
+
+        private void createAnswer() throws InterruptedException {
+            Map<String, Object> body = Map.of(
+                    "questionId", question(),
+                    "content", "load test answer " + random.nextLong(),
+                    "anonymous", random.nextInt(10) == 0);
+            JsonNode data = post("POST /api/v1/answers", "/api/v1/answers", body);
+            if (data != null && data.hasNonNull("id")) {
+                long answerId = data.get("id").asLong();
+                ownAnswerIds.addLast(answerId);
+                createdAnswerIds.add(answerId);
+            }
+        }
+
+        private void selectAnswer() throws InterruptedException {
+            Long answerId = ownAnswerIds.peekLast();
+            if (answerId == null) {
+                createAnswer();
+                return;
+            }
+            post("POST /api/v1/answers/{answerId}/select", "/api/v1/answers/" + answerId + "/select", null);
+        }
+
+        private void refresh() throws InterruptedException {
+            JsonNode data = send("POST /api/v1/auth/refresh", request("/api/v1/auth/refresh?refresh_token=" + encode(refreshToken))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            if (data != null && data.hasNonNull("accessToken")) {
+                accessToken = data.get("accessToken").asText();
+                refreshToken = data.get("refreshToken").asText();
+            } else {
+                issueTokens();
+            }
+        }
+
+        private void logout() throws InterruptedException {
+            // 클라이언트의 토큰은 유지하고 새로 발급한 토큰 쌍을 로그아웃 (폐기 목록 경로 측정)
+            String email = DatasetGenerator.email(userId);
+            String sessionAccessToken = jwtTokenProvider.createAccessToken(principal(userId, "ROLE_USER"));
+            String sessionRefreshToken = jwtTokenProvider.createRefreshToken(email);
+            send("POST /api/v1/auth/logout", HttpRequest.newBuilder(uri("/api/v1/auth/logout?refresh_token=" + encode(sessionRefreshToken)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + sessionAccessToken)
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private void deleteAccount() throws InterruptedException {
+            long disposableUserId = nextDisposableUserId.getAndIncrement();
+            if (disposableUserId >= properties.firstDisposableUserId() + properties.getDisposableUsers()) {
+                return;
+            }
+            String token = jwtTokenProvider.createAccessToken(principal(disposableUserId, "ROLE_USER"));
+            send("DELETE /api/v1/auth/user", HttpRequest.newBuilder(uri("/api/v1/auth/user"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + token)
+                    .DELETE());
+        }
+
+        private void adminCreateQuestion() throws InterruptedException {
+            JsonNode data = post("POST /api/v1/admin/questions", "/api/v1/admin/questions", questionBody());
+            if (data != null && data.hasNonNull("id")) {
+                ownQuestionIds.addLast(data.get("id").asLong());
+            }
+        }
+
+        private void adminUpdateQuestion() throws InterruptedException {
+            // 생성한 질문이 없으면 시드 질문을 수정 (인기 질문의 캐시 무효화 경로 포함)
+            long questionId = ownQuestionIds.isEmpty() ? question() : ownQuestionIds.peekLast();
+            send("PUT /api/v1/admin/questions/{questionId}", request("/api/v1/admin/questions/" + questionId)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(json(questionBody()))));
+        }
+
+        private void adminDeleteQuestion() throws InterruptedException {
+            Long questionId = ownQuestionIds.pollFirst();
+            if (questionId == null) {
+                adminCreateQuestion();
+                return;
+            }
+            send("DELETE /api/v1/admin/questions/{questionId}", request("/api/v1/admin/questions/" + questionId).DELETE());
+        }
+
+        private void adminDeleteAnswer() throws InterruptedException {
+            Long answerId = createdAnswerIds.poll();
+            if (answerId == null) {
+                return;
+            }
+            send("DELETE /api/v1/admin/answers/{answerId}", request("/api/v1/admin/answers/" + answerId).DELETE());
+        }
+
+        private Map<String, Object> questionBody() {
+            return Map.of(
+                    "title", "load test question " + random.nextLong(),
+                    "content", "load test content",
+                    "defaultAnswer", "load test default answer",
+                    "categoryId", category(),
+                    "keywords", List.of(DatasetGenerator.keywordName(keywordSampler.next(random)),
+                            DatasetGenerator.keywordName(keywordSampler.next(random))));
+        }
+
+        private JsonNode get(String endpoint, String path) throws InterruptedException {
+            return send(endpoint, request(path).GET());
+        }
+
+        private JsonNode post(String endpoint, String path, Object body) throws InterruptedException {
+            HttpRequest.Builder builder = request(path);
+            if (body == null) {
+                builder.POST(HttpRequest.BodyPublishers.noBody());
+            } else {
+                builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofByteArray(json(body)));
+            }
+            return send(endpoint, builder);
+        }
+
+        /**
+         * 요청 전송 및 지연 시간 기록
+         * @return 응답의 data 노드 (실패 시 null)
+         */
+        private JsonNode send(String endpoint, HttpRequest.Builder builder) throws InterruptedException {
+            long started = System.nanoTime();
+            LatencyRecorder recorder = started < measureStart ? warmup : measured;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+                recorder.record(endpoint, System.nanoTime() - started, response.statusCode() >= 400);
+                if (response.statusCode() >= 400 || response.body().length == 0) {
+                    return null;
+                }
+                return objectMapper.readTree(response.body()).path("data");
+            } catch (IOException e) {
+                recorder.record(endpoint, System.nanoTime() - started, true);
+                return null;
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).timeout(REQUEST_TIMEOUT);
+            if (accessToken != null) {
+                builder.header("Authorization", "Bearer " + accessToken);
+            }
+            return builder;
+        }
+
+        private void issueTokens() {
+            String role = type == ClientType.ADMIN ? "ROLE_ADMIN" : "ROLE_USER";
+            accessToken = jwtTokenProvider.createAccessToken(principal(userId, role));
+            refreshToken = jwtTokenProvider.createRefreshToken(DatasetGenerator.email(userId));
+        }
+
+        private long question() {
+            return questionSampler.next(random);
+        }
+
+        private long category() {
+            return 1 + random.nextInt(properties.getCategories());
+        }
+
+        private String answerSort() {
+            return ANSWER_SORTS[random.nextInt(ANSWER_SORTS.length)];
+        }
+
+        private int page() {
+            // 대부분 앞쪽 페이지, 가끔 깊은 페이지
+            return random.nextInt(10) == 0 ? random.nextInt(properties.getQuestions() / 20) : random.nextInt(5);
+        }
+
+        private String keywordPrefix(int length) {
+            String name = DatasetGenerator.keywordName(keywordSampler.next(random));
+            return name.substring(0, Math.min(length, name.length()));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static UserPrincipal principal(long userId, String role) {
+        return new UserPrincipal(userId, DatasetGenerator.email(userId), List.of(new SimpleGrantedAuthority(role)));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
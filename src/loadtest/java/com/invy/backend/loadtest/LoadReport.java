@@ -0,0 +1,105 @@
+package com.invy.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 결과 보고서
+ * - 엔드포인트별 요청 수, 오류 수, 처리량(req/s)
+ * - 지연 시간 백분위 (p50, p90, p99, p99.9, 최대, 밀리초)
+ * 표 형태로 로그에 출력하고 JSON 파일로 저장 (실행 간 비교용)
+ */
+@Slf4j
+final class LoadReport {
+
+    private final long seed;
+    private final int clients;
+    private final double durationSeconds;
+    private final List<EndpointStats> endpoints;
+
+    private LoadReport(long seed, int clients, double durationSeconds, List<EndpointStats> endpoints) {
+        this.seed = seed;
+        this.clients = clients;
+        this.durationSeconds = durationSeconds;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * 클라이언트별 기록기를 병합해 보고서 생성
+     * @param properties 부하 테스트 설정
+     * @param recorders 클라이언트별 지연 시간 기록기
+     * @param durationNanos 실제 측정 시간
+     * @return 보고서
+     */
+    static LoadReport of(LoadTestProperties properties, List<LatencyRecorder> recorders, long durationNanos) {
+        Map<String, LatencyRecorder.Samples> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samples().forEach((endpoint, samples) ->
+                    merged.computeIfAbsent(endpoint, key -> new LatencyRecorder.Samples()).addAll(samples));
+        }
+
+        double seconds = durationNanos / 1_000_000_000.0;
+        List<EndpointStats> endpoints = new ArrayList<>();
+        merged.forEach((endpoint, samples) -> endpoints.add(EndpointStats.of(endpoint, samples, seconds)));
+        return new LoadReport(properties.getSeed(), properties.getClients(), seconds, endpoints);
+    }
+
+    void print() {
+        StringBuilder table = new StringBuilder(String.format("%n%-55s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (EndpointStats stats : endpoints) {
+            table.append(String.format("%-55s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50(), stats.p90(), stats.p99(), stats.p999(), stats.max()));
+        }
+        log.info("Load test finished: seed {}, {} clients, {} s (latencies in ms){}",
+                seed, clients, String.format("%.1f", durationSeconds), table);
+    }
+
+    void write(String file) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("seed", seed);
+        document.put("clients", clients);
+        document.put("durationSeconds", durationSeconds);
+        document.put("endpoints", endpoints);
+
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), document);
+        log.info("Load test report written to {}", path.toAbsolutePath());
+    }
+
+    /**
+     * 엔드포인트 하나의 집계 결과 (지연 시간은 밀리초)
+     */
+    record EndpointStats(String endpoint, long requests, long errors, double throughput,
+                         double p50, double p90, double p99, double p999, double max) {
+
+        static EndpointStats of(String endpoint, LatencyRecorder.Samples samples, double seconds) {
+            long[] sorted = samples.sorted();
+            return new EndpointStats(endpoint, sorted.length, samples.errors(), sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.invy.backend.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 부하 테스트 설정 (loadtest.*)
+ * - 데이터셋 크기와 난수 시드 (같은 시드와 크기면 항상 같은 데이터셋)
+ * - 동시 클라이언트 수, 인증 클라이언트 비율, 워밍업/측정 시간
+ * - 결과 보고서 경로
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private long seed = 20250101L;
+
+    private int users = 20_000;
+    private int disposableUsers = 2_000;
+    private int categories = 12;
+    private int keywords = 3_000;
+    private int questions = 100_000;
+    private int answers = 1_000_000;
+    private int reactions = 5_000_000;
+    private int bookmarks = 300_000;
+
+    private int clients = 64;
+    private double authenticatedRatio = 0.7;
+    private int warmupSeconds = 30;
+    private int durationSeconds = 120;
+
+    private String reportFile = "build/reports/loadtest/report.json";
+
+    /**
+     * 관리자 사용자 ID (일반 사용자 다음 번호)
+     */
+    public long adminUserId() {
+        return users + 1L;
+    }
+
+    /**
+     * 회원 탈퇴 시나리오에서 사용하는 일회용 사용자 ID 시작 번호
+     */
+    public long firstDisposableUserId() {
+        return users + 2L;
+    }
+}
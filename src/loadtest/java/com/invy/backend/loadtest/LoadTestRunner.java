@@ -0,0 +1,35 @@
+package com.invy.backend.loadtest;
+
+import com.invy.backend.InvyBackendApplication;
+import com.invy.backend.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ * 1. loadtest 프로필로 애플리케이션을 임의 포트에 기동 (기동 중 DatasetGenerator 가 데이터셋 적재)
+ * 2. LoadDriver 로 워밍업 후 측정
+ * 3. 엔드포인트별 보고서 출력 및 JSON 저장 후 종료
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) {
+        int exitCode = 0;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InvyBackendApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            LoadReport report = new LoadDriver(properties, port, context.getBean(JwtTokenProvider.class)).run();
+            report.print();
+            report.write(properties.getReportFile());
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+}
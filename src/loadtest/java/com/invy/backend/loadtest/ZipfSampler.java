@@ -0,0 +1,39 @@
+package com.invy.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1..n 범위의 Zipf 분포 표본 추출기
+ * 인기 있는 소수의 대상(질문, 키워드)에 접근이 몰리는 실제 트래픽 형태를 재현
+ * 누적 분포를 미리 계산하고 이진 탐색으로 추출하므로 같은 난수열이면 항상 같은 결과
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * 표본 추출
+     * @param random 난수 생성기
+     * @return 1..n 범위의 값 (작을수록 자주 추출됨)
+     */
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.invy.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정 클래스
+ * - 대량 정리 작업(@Async("questionPurgeExecutor"), @Async("accountPurgeExecutor")) 전용 실행기
+ *   각각 단일 스레드로 순서대로 처리하여 정리 작업끼리 DB 잠금을 두고 경합하지 않도록 함
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 질문 삭제 정리 작업 실행기
+     * 대기열이 가득 차면 요청 스레드에서 실행하지 않고 주기적 재개 작업에 맡김 (질문은 이미 숨겨진 상태)
+     * @return ThreadPoolTaskExecutor 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor questionPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("question-purge-");
+        executor.setRejectedExecutionHandler(AsyncConfig::cancelRejected);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 회원 탈퇴 정리 작업 실행기
+     * 대기열이 가득 차면 주기적 재개 작업에 맡김 (사용자는 이미 인증 불가 상태)
+     * @return ThreadPoolTaskExecutor 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor accountPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("account-purge-");
+        executor.setRejectedExecutionHandler(AsyncConfig::cancelRejected);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대기열이 가득 차 거부된 작업은 실행하지 않고 버림
+     * Future 로 넘긴 작업은 취소하여 완료를 기다리거나 완료 시 정리하는 쪽이 거부를 알 수 있게 함
+     */
+    private static void cancelRejected(Runnable task, ThreadPoolExecutor pool) {
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+}
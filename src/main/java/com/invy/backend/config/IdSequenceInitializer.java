@@ -0,0 +1,60 @@
+package com.invy.backend.config;
+
+import com.invy.backend.entity.IdSequences;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 기반 ID 할당기(id_sequences)의 시작 값 보정
+ * - IDENTITY 에서 전환한 테이블의 기존 행 ID 를 바꾸지 않고, 다음 할당 블록이 현재 최대 ID 이후에서 시작하도록 next_val 을 올림
+ * - next_val 을 내리지는 않으므로 여러 인스턴스가 동시에 실행해도 안전
+ *
+ * 스키마가 준비된 뒤 실행되도록 EntityManagerFactory 에 의존
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 모든 테이블 기반 ID 의 next_val 을 (최대 ID + 1) 이상으로 보정
+     * 애플리케이션 외부에서 ID 를 지정해 행을 추가한 경우에도 호출
+     */
+    @PostConstruct
+    public void synchronize() {
+        for (String table : IdSequences.POOLED_TABLES) {
+            long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            if (!raise(table, next)) {
+                try {
+                    jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                            + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)", table, next);
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 먼저 생성함
+                    raise(table, next);
+                }
+            }
+            log.info("ID sequence '{}' starts at or after {}", table, next);
+        }
+    }
+
+    /**
+     * next_val 이 주어진 값보다 작으면 올림
+     * @return 시퀀스 행이 존재하면 true
+     */
+    private boolean raise(String sequence, long next) {
+        jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ? WHERE "
+                + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?", next, sequence, next);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdSequences.TABLE + " WHERE "
+                + IdSequences.NAME_COLUMN + " = ?", Integer.class, sequence);
+        return rows != null && rows > 0;
+    }
+}
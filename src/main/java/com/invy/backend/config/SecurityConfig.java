@@ -61,7 +61,13 @@ public class SecurityConfig {
                         // 모든 사용자가 접근 가능한 질문 조회 경로
                         .requestMatchers("/api/v1/questions").permitAll()
                         .requestMatchers("/api/v1/questions/{id}").permitAll()
+                        .requestMatchers("/api/v1/questions/trending").permitAll()
+                        .requestMatchers("/api/v1/questions/{id}/answers").permitAll()
                         .requestMatchers("/api/v1/keywords/**").permitAll()
+                        .requestMatchers("/api/v1/categories").permitAll()
+                        // 헬스 체크는 공개, 그 외 모니터링 엔드포인트는 관리자만 접근 가능
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated())
                 // OAuth2 로그인 설정
@@ -0,0 +1,38 @@
+package com.invy.backend.config;
+
+import com.invy.backend.monitoring.SqlBudgetProperties;
+import com.invy.backend.monitoring.SqlStatsDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청당 SQL 문 집계 설정 클래스
+ * - DataSource 를 SqlStatsDataSource 로 감싸 실행 문장 수와 JDBC 시간 집계 (Hibernate, JdbcTemplate 모두 포함)
+ * - SQL 예산 설정(app.sql-budget) 바인딩
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlMonitoringConfig {
+
+    /**
+     * 애플리케이션의 DataSource 를 SQL 집계용 래퍼로 감쌈
+     * 다른 빈 후처리와 무관하게 먼저 등록되도록 static 으로 선언
+     * @return DataSource 후처리기
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+                    return new SqlStatsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.invy.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토글의 조건부 INSERT/DELETE 가 기대하는 유니크 키를 명시적으로 보장하는 시작 시 마이그레이션
+ * - ddl-auto 는 기존 테이블에 중복 행이 있으면 유니크 키 추가에 실패해도 경고만 남기고 계속 기동함
+ * - 유니크 키가 없으면 중복 행을 정리(사용자/대상별 최소 ID 만 남김)하고, 반응이면 대상의 lgtm_count 를 반응 행으로 다시 계산한 뒤 키를 추가
+ * - 키 추가에 실패하고 여전히 없으면 (정리 도중 중복이 다시 생긴 경우 등) 기동을 중단
+ * - 키가 이미 있으면 메타데이터 조회만 수행하므로 여러 인스턴스가 동시에 실행해도 안전
+ *
+ * 스키마가 준비된 뒤 실행되도록 EntityManagerFactory 에 의존
+ */
+@Slf4j
+@Component
+public class UniqueKeyMigration {
+
+    private static final List<UniqueKey> UNIQUE_KEYS = List.of(
+            new UniqueKey("bookmarks", "uk_bookmarks_user_question", "question_id", null),
+            new UniqueKey("reactions", "uk_reactions_user_question", "question_id", "questions"),
+            new UniqueKey("reactions", "uk_reactions_user_answer", "answer_id", "answers")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UniqueKeyMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 누락된 유니크 키를 중복 정리 후 추가
+     */
+    @PostConstruct
+    public void migrate() {
+        for (UniqueKey key : UNIQUE_KEYS) {
+            if (exists(key)) {
+                continue;
+            }
+
+            int duplicates = deleteDuplicates(key);
+            if (duplicates > 0 && key.countedTable() != null) {
+                int recounted = recount(key);
+                log.warn("Removed {} duplicate rows from {} and recomputed lgtm_count of {} {}",
+                        duplicates, key.table(), recounted, key.countedTable());
+            } else if (duplicates > 0) {
+                log.warn("Removed {} duplicate rows from {}", duplicates, key.table());
+            }
+
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + key.table() + " ADD CONSTRAINT " + key.name()
+                        + " UNIQUE (user_id, " + key.targetColumn() + ")");
+                log.info("Added unique key {} on {}", key.name(), key.table());
+            } catch (DataAccessException e) {
+                // 다른 인스턴스가 먼저 추가했으면 계속 진행
+                if (!exists(key)) {
+                    throw new IllegalStateException("Unique key " + key.name() + " on " + key.table()
+                            + " is missing and could not be added", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * (user_id, 대상 컬럼) 유니크 인덱스 존재 여부 (이름이 아닌 컬럼 구성으로 판단)
+     */
+    private boolean exists(UniqueKey key) {
+        Set<String> expected = Set.of("user_id", key.targetColumn());
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                    key.table(), true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName != null && columnName != null) {
+                        uniqueIndexes.computeIfAbsent(indexName, name -> new HashSet<>())
+                                .add(columnName.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return uniqueIndexes.containsValue(expected);
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * 사용자/대상별로 ID 가 가장 작은 행만 남기고 삭제
+     * @return 삭제된 행 수
+     */
+    private int deleteDuplicates(UniqueKey key) {
+        String column = key.targetColumn();
+        return jdbcTemplate.update("DELETE FROM " + key.table()
+                + " WHERE user_id IS NOT NULL AND " + column + " IS NOT NULL AND id NOT IN ("
+                + "SELECT id FROM (SELECT MIN(id) AS id FROM " + key.table()
+                + " WHERE user_id IS NOT NULL AND " + column + " IS NOT NULL GROUP BY user_id, " + column + ") kept)");
+    }
+
+    /**
+     * 반응 행 수와 다른 대상의 lgtm_count 를 다시 계산
+     * 질문은 조건부 GET 의 상세 버전도 함께 증가
+     * @return 갱신된 행 수
+     */
+    private int recount(UniqueKey key) {
+        String count = "(SELECT COUNT(*) FROM " + key.table() + " r WHERE r." + key.targetColumn() + " = t.id)";
+        String versionBump = "questions".equals(key.countedTable()) ? ", content_version = content_version + 1" : "";
+        return jdbcTemplate.update("UPDATE " + key.countedTable() + " t SET lgtm_count = " + count + versionBump
+                + " WHERE t.lgtm_count <> " + count);
+    }
+
+    /**
+     * 유니크 키 정의
+     * @param table 테이블 이름
+     * @param name 제약 조건 이름 (엔티티의 @UniqueConstraint 이름과 동일)
+     * @param targetColumn user_id 와 함께 유니크한 대상 컬럼
+     * @param countedTable lgtm_count 를 다시 계산할 대상 테이블 (없으면 null)
+     */
+    private record UniqueKey(String table, String name, String targetColumn, String countedTable) {
+    }
+}
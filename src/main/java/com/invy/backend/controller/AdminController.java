@@ -1,17 +1,25 @@
 package com.invy.backend.controller;
 
 import com.invy.backend.dto.*;
+import com.invy.backend.service.AccountPurgeService;
 import com.invy.backend.service.AdminService;
+import com.invy.backend.service.QuestionImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 /**
  * 관리자 기능을 위한 API 엔드포인트
  * - 면접 질문 등록/수정/삭제
+ * - 면접 질문 일괄 가져오기 (NDJSON / CSV)
  * - 답변 삭제
+ * - 회원 탈퇴 정리 진행 상황 조회
  */
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -20,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final QuestionImportService questionImportService;
+    private final AccountPurgeService accountPurgeService;
 
     /**
      * 면접 질문 등록
@@ -39,6 +49,22 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success("질문이 등록되었습니다.", questionDto));
     }
 
+    /**
+     * 면접 질문 일괄 가져오기
+     * 요청 본문을 스트리밍으로 읽어 청크 단위로 저장 (Content-Type: application/x-ndjson 또는 text/csv)
+     * @param request HTTP 요청 (본문 스트림과 Content-Type)
+     * @return 레코드별 처리 결과
+     * @throws IOException 요청 본문을 여는 중 오류 발생 시
+     */
+    @PostMapping(value = "/questions/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<QuestionImportResultDto>> importQuestions(HttpServletRequest request) throws IOException {
+        QuestionImportResultDto result = questionImportService.importQuestions(
+                request.getInputStream(),
+                QuestionImportService.Format.fromContentType(request.getContentType())
+        );
+        return ResponseEntity.ok(ApiResponse.success("질문 가져오기가 완료되었습니다.", result));
+    }
+
     /**
      * 면접 질문 수정
      * @param questionId 질문 ID
@@ -62,12 +88,18 @@ public class AdminController {
 
     /**
      * 면접 질문 삭제
+     * 질문은 즉시 조회되지 않으며, 백그라운드 정리로 예약된 경우 202 Accepted 응답
      * @param questionId 질문 ID
+     * @param async 백그라운드 정리 여부 (생략 시 답변 수에 따라 자동 결정)
      * @return 성공 메시지
      */
     @DeleteMapping("/questions/{questionId}")
-    public ResponseEntity<ApiResponse<Void>> deleteQuestion(@PathVariable Long questionId) {
-        adminService.deleteQuestion(questionId);
+    public ResponseEntity<ApiResponse<Void>> deleteQuestion(
+            @PathVariable Long questionId,
+            @RequestParam(required = false) Boolean async) {
+        if (adminService.deleteQuestion(questionId, async)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("질문 삭제가 예약되었습니다."));
+        }
         return ResponseEntity.ok(ApiResponse.success("질문이 삭제되었습니다."));
     }
 
@@ -81,4 +113,14 @@ public class AdminController {
         adminService.deleteAnswer(answerId);
         return ResponseEntity.ok(ApiResponse.success("답변이 삭제되었습니다."));
     }
-}
\ No newline at end of file
+
+    /**
+     * 회원 탈퇴 정리 진행 상황 조회
+     * @param userId 사용자 ID
+     * @return 남은 북마크/반응/답변 수와 처리 상태
+     */
+    @GetMapping("/users/{userId}/deletion")
+    public ResponseEntity<ApiResponse<AccountDeletionDto>> getAccountDeletion(@PathVariable Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(accountPurgeService.getProgress(userId)));
+    }
+}
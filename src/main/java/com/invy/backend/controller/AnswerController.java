@@ -3,6 +3,7 @@ package com.invy.backend.controller;
 import com.invy.backend.dto.AnswerDto;
 import com.invy.backend.dto.ApiResponse;
 import com.invy.backend.dto.CreateAnswerRequest;
+import com.invy.backend.dto.ToggleResultDto;
 import com.invy.backend.security.UserPrincipal;
 import com.invy.backend.service.AnswerService;
 import jakarta.validation.Valid;
@@ -61,13 +62,13 @@ public class AnswerController {
      * 답변 LGTM 반응 토글
      * @param answerId 답변 ID
      * @param userPrincipal 현재 인증된 사용자
-     * @return 성공 메시지
+     * @return 토글 이후 LGTM 상태와 LGTM 수
      */
     @PostMapping("/{answerId}/lgtm")
-    public ResponseEntity<ApiResponse<Void>> toggleLgtm(
+    public ResponseEntity<ApiResponse<ToggleResultDto>> toggleLgtm(
             @PathVariable Long answerId,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        answerService.toggleLgtm(answerId, userPrincipal.getId());
-        return ResponseEntity.ok(ApiResponse.success("LGTM이 토글되었습니다."));
+        ToggleResultDto result = answerService.toggleLgtm(answerId, userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success("LGTM이 토글되었습니다.", result));
     }
 }
\ No newline at end of file
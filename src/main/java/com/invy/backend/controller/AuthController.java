@@ -1,10 +1,14 @@
 package com.invy.backend.controller;
 
+import com.invy.backend.dto.AccountDeletionDto;
 import com.invy.backend.dto.ApiResponse;
 import com.invy.backend.dto.AuthResponse;
+import com.invy.backend.security.JwtTokenProvider;
 import com.invy.backend.security.UserPrincipal;
 import com.invy.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -21,27 +25,33 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 로그아웃 처리
-     * @param userPrincipal 현재 인증된 사용자
+     * 요청의 액세스 토큰과 전달된 리프레시 토큰을 폐기
+     * @param request HTTP 요청 (Authorization 헤더의 액세스 토큰)
+     * @param refreshToken 리프레시 토큰 (선택)
      * @return ResponseEntity 응답 엔티티
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        authService.logout(userPrincipal.getEmail());
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request,
+                                                    @RequestParam(value = "refresh_token", required = false) String refreshToken) {
+        authService.logout(jwtTokenProvider.resolveToken(request), refreshToken);
         return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다."));
     }
 
     /**
      * 회원 탈퇴 처리
+     * 요청 즉시 인증이 차단되고, 연관 데이터는 백그라운드에서 정리되므로 202 Accepted 로 응답
      * @param userPrincipal 현재 인증된 사용자
      * @return ResponseEntity 응답 엔티티
      */
     @DeleteMapping("/user")
-    public ResponseEntity<ApiResponse<Void>> deleteAccount(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        authService.deleteAccount(userPrincipal.getId());
-        return ResponseEntity.ok(ApiResponse.success("계정이 삭제되었습니다."));
+    public ResponseEntity<ApiResponse<AccountDeletionDto>> deleteAccount(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        AccountDeletionDto deletion = authService.deleteAccount(userPrincipal.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("계정 삭제가 요청되었습니다.", deletion));
     }
 
     /**
@@ -0,0 +1,34 @@
+package com.invy.backend.controller;
+
+import com.invy.backend.dto.ApiResponse;
+import com.invy.backend.dto.CategorySummaryDto;
+import com.invy.backend.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 카테고리 관련 API 엔드포인트를 제공하는 컨트롤러
+ * - 카테고리 목록 및 카테고리별 질문 수 조회
+ */
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    /**
+     * 모든 카테고리와 카테고리별 질문 수 조회
+     * @return 카테고리 목록
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CategorySummaryDto>>> getCategories() {
+        List<CategorySummaryDto> categories = categoryService.getCategories();
+        return ResponseEntity.ok(ApiResponse.success(categories));
+    }
+}
@@ -2,6 +2,7 @@ package com.invy.backend.controller;
 
 import com.invy.backend.dto.ApiResponse;
 import com.invy.backend.dto.KeywordDto;
+import com.invy.backend.dto.KeywordSuggestionDto;
 import com.invy.backend.service.KeywordService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,16 +11,21 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 키워드 관련 API 엔드포인트를 제공하는 컨트롤러
  * - 키워드 목록 조회
  * - 키워드 검색
+ * - 키워드 자동완성
  */
 @RestController
 @RequestMapping("/api/v1/keywords")
 @RequiredArgsConstructor
 public class KeywordController {
 
+    private static final int MAX_SUGGEST_LIMIT = 20;
+
     private final KeywordService keywordService;
 
     /**
@@ -47,4 +53,19 @@ public class KeywordController {
         Page<KeywordDto> keywords = keywordService.searchKeywords(query, pageable);
         return ResponseEntity.ok(ApiResponse.success(keywords));
     }
+
+    /**
+     * 검색창 입력에 대한 키워드 자동완성 (DB 미조회)
+     * @param query 입력 중인 검색어
+     * @param limit 최대 개수 (1~20)
+     * @return 추천 키워드 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<KeywordSuggestionDto>>> suggestKeywords(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        List<KeywordSuggestionDto> suggestions = keywordService.suggestKeywords(query, boundedLimit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
 }
\ No newline at end of file
@@ -1,46 +1,69 @@
 package com.invy.backend.controller;
 
+import com.invy.backend.dto.AnswerDto;
 import com.invy.backend.dto.ApiResponse;
+import com.invy.backend.dto.CursorPageDto;
 import com.invy.backend.dto.QuestionDetailDto;
 import com.invy.backend.dto.QuestionDto;
+import com.invy.backend.dto.ToggleResultDto;
+import com.invy.backend.dto.TrendingQuestionDto;
 import com.invy.backend.security.UserPrincipal;
 import com.invy.backend.service.QuestionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * 질문 관련 API 엔드포인트를 제공하는 컨트롤러
  * - 질문 목록 조회
  * - 카테고리별 질문 조회
+ * - 커서 기반 질문 목록 조회
+ * - 질문 전문 검색
+ * - 인기(트렌딩) 질문 조회
  * - 질문 상세 조회
+ * - 질문별 답변 커서 기반 조회
  * - 북마크 토글
  * - LGTM 토글
+ *
+ * 목록/상세 조회는 ETag 기반 조건부 GET 을 지원하여,
+ * If-None-Match 가 현재 버전과 같으면 엔티티를 조회하지 않고 304 를 응답
  */
 @RestController
 @RequestMapping("/api/v1/questions")
 @RequiredArgsConstructor
 public class QuestionController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final QuestionService questionService;
 
     /**
      * 모든 질문을 제목 기준 오름차순으로 조회 (페이징 처리)
      * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
      * @param pageable 페이징 정보
+     * @param webRequest 조건부 요청 (If-None-Match)
      * @return 질문 목록
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<QuestionDto>>> getAllQuestions(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
         Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        if (webRequest.checkNotModified(questionService.getQuestionListETag(null, userId))) {
+            return null;
+        }
         Page<QuestionDto> questions = questionService.getAllQuestions(userId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(questions));
+        return revalidated(ApiResponse.success(questions));
     }
 
     /**
@@ -48,15 +71,98 @@ public class QuestionController {
      * @param categoryId 카테고리 ID
      * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
      * @param pageable 페이징 정보
+     * @param webRequest 조건부 요청 (If-None-Match)
      * @return 질문 목록
      */
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<ApiResponse<Page<QuestionDto>>> getQuestionsByCategory(
             @PathVariable Long categoryId,
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
         Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        if (webRequest.checkNotModified(questionService.getQuestionListETag(categoryId, userId))) {
+            return null;
+        }
         Page<QuestionDto> questions = questionService.getQuestionsByCategory(categoryId, userId, pageable);
+        return revalidated(ApiResponse.success(questions));
+    }
+
+    /**
+     * 모든 질문을 제목 기준 오름차순으로 커서 기반 조회 (무한 스크롤용, 전체 개수 미제공)
+     * @param cursor 이전 응답의 next 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
+     * @param webRequest 조건부 요청 (If-None-Match)
+     * @return 질문 커서 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageDto<QuestionDto>>> getQuestionsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        if (webRequest.checkNotModified(questionService.getQuestionListETag(null, userId))) {
+            return null;
+        }
+        CursorPageDto<QuestionDto> questions = questionService.getQuestionsByCursor(cursor, clampPageSize(size), userId);
+        return revalidated(ApiResponse.success(questions));
+    }
+
+    /**
+     * 특정 카테고리의 질문을 제목 기준 오름차순으로 커서 기반 조회 (무한 스크롤용, 전체 개수 미제공)
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 next 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
+     * @param webRequest 조건부 요청 (If-None-Match)
+     * @return 질문 커서 페이지
+     */
+    @GetMapping("/category/{categoryId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageDto<QuestionDto>>> getQuestionsByCategoryAndCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        if (webRequest.checkNotModified(questionService.getQuestionListETag(categoryId, userId))) {
+            return null;
+        }
+        CursorPageDto<QuestionDto> questions =
+                questionService.getQuestionsByCategoryAndCursor(categoryId, cursor, clampPageSize(size), userId);
+        return revalidated(ApiResponse.success(questions));
+    }
+
+    /**
+     * 제목/내용/기본 답변 전문 검색 (관련도 순, 페이징 처리)
+     * @param query 검색어
+     * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
+     * @param pageable 페이징 정보
+     * @return 검색된 질문 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<QuestionDto>>> searchQuestions(
+            @RequestParam String query,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        Page<QuestionDto> questions = questionService.searchQuestions(query, userId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(questions));
+    }
+
+    /**
+     * 최근 활동(LGTM, 북마크, 답변) 기준 인기 질문 조회 (인메모리 순위, DB 조회 없음)
+     * @param categoryId 카테고리 ID (생략 시 전체)
+     * @param size 최대 개수 (1~100)
+     * @return 인기 질문 목록
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingQuestionDto>>> getTrendingQuestions(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int size) {
+        List<TrendingQuestionDto> questions = questionService.getTrendingQuestions(categoryId, clampPageSize(size));
         return ResponseEntity.ok(ApiResponse.success(questions));
     }
 
@@ -64,42 +170,100 @@ public class QuestionController {
      * 질문 상세 정보 조회
      * @param questionId 질문 ID
      * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
+     * @param webRequest 조건부 요청 (If-None-Match)
      * @return 질문 상세 정보
      */
     @GetMapping("/{questionId}")
     public ResponseEntity<ApiResponse<QuestionDetailDto>> getQuestionDetail(
             @PathVariable Long questionId,
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
         Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        String eTag = questionService.getQuestionDetailETag(questionId, userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         QuestionDetailDto questionDetail = questionService.getQuestionDetail(questionId, userId);
-        return ResponseEntity.ok(ApiResponse.success(questionDetail));
+        return revalidated(ApiResponse.success(questionDetail));
+    }
+
+    /**
+     * 질문의 답변을 커서 기반으로 조회 (상세 응답에 포함된 첫 페이지 이후 조회용)
+     * 답변/반응 변경은 질문 상세 버전에 포함되므로 상세 조회와 같은 ETag 를 사용
+     * @param questionId 질문 ID
+     * @param sort 정렬 방식 (ranked: 채택/LGTM/최신순, newest: 최신순, top: LGTM 순)
+     * @param cursor 이전 응답의 next 커서 (첫 페이지는 생략, 정렬 방식별로 다름)
+     * @param size 페이지 크기 (1~100)
+     * @param userPrincipal 현재 인증된 사용자 (없을 수 있음)
+     * @param webRequest 조건부 요청 (If-None-Match)
+     * @return 답변 커서 페이지
+     */
+    @GetMapping("/{questionId}/answers")
+    public ResponseEntity<ApiResponse<CursorPageDto<AnswerDto>>> getAnswers(
+            @PathVariable Long questionId,
+            @RequestParam(defaultValue = "ranked") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        QuestionService.AnswerSort answerSort = QuestionService.AnswerSort.fromParam(sort);
+        String eTag = questionService.getQuestionDetailETag(questionId, userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CursorPageDto<AnswerDto> answers =
+                questionService.getAnswers(questionId, answerSort, cursor, clampPageSize(size), userId);
+        return revalidated(ApiResponse.success(answers));
     }
 
     /**
      * 질문 북마크 토글
      * @param questionId 질문 ID
      * @param userPrincipal 현재 인증된 사용자
-     * @return 성공 메시지
+     * @return 토글 이후 북마크 상태
      */
     @PostMapping("/{questionId}/bookmark")
-    public ResponseEntity<ApiResponse<Void>> toggleBookmark(
+    public ResponseEntity<ApiResponse<ToggleResultDto>> toggleBookmark(
             @PathVariable Long questionId,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        questionService.toggleBookmark(questionId, userPrincipal.getId());
-        return ResponseEntity.ok(ApiResponse.success("북마크가 토글되었습니다."));
+        ToggleResultDto result = questionService.toggleBookmark(questionId, userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success("북마크가 토글되었습니다.", result));
     }
 
     /**
      * 질문 LGTM 반응 토글
      * @param questionId 질문 ID
      * @param userPrincipal 현재 인증된 사용자
-     * @return 성공 메시지
+     * @return 토글 이후 LGTM 상태와 LGTM 수
      */
     @PostMapping("/{questionId}/lgtm")
-    public ResponseEntity<ApiResponse<Void>> toggleLgtm(
+    public ResponseEntity<ApiResponse<ToggleResultDto>> toggleLgtm(
             @PathVariable Long questionId,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        questionService.toggleLgtm(questionId, userPrincipal.getId());
-        return ResponseEntity.ok(ApiResponse.success("LGTM이 토글되었습니다."));
+        ToggleResultDto result = questionService.toggleLgtm(questionId, userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success("LGTM이 토글되었습니다.", result));
+    }
+
+    /**
+     * 조건부 GET 응답 생성
+     * ETag 헤더는 checkNotModified 에서 설정되며, 사용자별로 달라지는 응답이므로 공유 캐시에는 저장하지 않고 매번 재검증
+     * @param body 응답 본문
+     * @return ResponseEntity 응답 엔티티
+     */
+    private <T> ResponseEntity<T> revalidated(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(body);
+    }
+
+    /**
+     * 커서 페이지 크기를 허용 범위(1~100)로 제한
+     * @param size 요청 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.invy.backend.controller;
+
+import com.invy.backend.dto.ApiResponse;
+import com.invy.backend.dto.CursorPageDto;
+import com.invy.backend.dto.UserAnswerDto;
+import com.invy.backend.dto.UserReactionDto;
+import com.invy.backend.security.UserPrincipal;
+import com.invy.backend.service.UserActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 현재 사용자의 활동(프로필 화면) API 엔드포인트를 제공하는 컨트롤러
+ * - 내가 작성한 답변 커서 기반 조회
+ * - 내가 LGTM 한 질문/답변 커서 기반 조회
+ */
+@RestController
+@RequestMapping("/api/v1/users/me")
+@RequiredArgsConstructor
+public class UserActivityController {
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private final UserActivityService userActivityService;
+
+    /**
+     * 현재 사용자가 작성한 답변을 최신순으로 커서 기반 조회
+     * @param cursor 이전 응답의 next 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @param userPrincipal 현재 인증된 사용자
+     * @return 답변 커서 페이지
+     */
+    @GetMapping("/answers")
+    public ResponseEntity<ApiResponse<CursorPageDto<UserAnswerDto>>> getMyAnswers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CursorPageDto<UserAnswerDto> answers =
+                userActivityService.getMyAnswers(userPrincipal.getId(), cursor, clampPageSize(size));
+        return ResponseEntity.ok(ApiResponse.success(answers));
+    }
+
+    /**
+     * 현재 사용자가 LGTM 한 질문/답변을 최신순으로 커서 기반 조회
+     * @param cursor 이전 응답의 next 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @param userPrincipal 현재 인증된 사용자
+     * @return 반응 커서 페이지
+     */
+    @GetMapping("/reactions")
+    public ResponseEntity<ApiResponse<CursorPageDto<UserReactionDto>>> getMyReactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CursorPageDto<UserReactionDto> reactions =
+                userActivityService.getMyReactions(userPrincipal.getId(), cursor, clampPageSize(size));
+        return ResponseEntity.ok(ApiResponse.success(reactions));
+    }
+
+    /**
+     * 커서 페이지 크기를 허용 범위(1~100)로 제한
+     * @param size 요청 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,41 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 처리 상태를 전달하기 위한 DTO 클래스
+ * - status: 정리 진행 중 / 완료
+ * - requestedAt: 탈퇴 요청 시각 (완료되어 사용자 행이 삭제된 경우 null)
+ * - remainingBookmarks/remainingReactions/remainingAnswers: 아직 정리되지 않은 북마크, 반응, 익명화되지 않은 답변 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDeletionDto {
+    private Long userId;
+    private Status status;
+    private LocalDateTime requestedAt;
+    private long remainingBookmarks;
+    private long remainingReactions;
+    private long remainingAnswers;
+
+    /**
+     * 정리가 완료된 상태 생성
+     * @param userId 사용자 ID
+     * @return AccountDeletionDto 객체
+     */
+    public static AccountDeletionDto completed(Long userId) {
+        return new AccountDeletionDto(userId, Status.COMPLETED, null, 0, 0, 0);
+    }
+
+    /**
+     * 탈퇴 처리 상태
+     */
+    public enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+}
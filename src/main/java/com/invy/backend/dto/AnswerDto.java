@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class AnswerDto {
     private Long id;
     private String content;
@@ -33,6 +33,17 @@ public class AnswerDto {
      * @return AnswerDto 객체
      */
     public static AnswerDto fromEntity(Answer answer, boolean lgtmReacted) {
+        return fromEntity(answer, lgtmReacted, answer.getLgtmCount());
+    }
+
+    /**
+     * Answer 엔티티를 AnswerDto로 변환 (LGTM 수 지정)
+     * @param answer 답변 엔티티
+     * @param lgtmReacted 현재 사용자의 LGTM 반응 여부
+     * @param lgtmCount 반영되지 않은 증감분을 포함한 LGTM 수
+     * @return AnswerDto 객체
+     */
+    public static AnswerDto fromEntity(Answer answer, boolean lgtmReacted, int lgtmCount) {
         UserDto userDto = null;
 
         // 익명이 아닌 경우에만 사용자 정보를 포함
@@ -46,7 +57,7 @@ public class AnswerDto {
                 .user(userDto)
                 .isAnonymous(answer.isAnonymous())
                 .isSelected(answer.isSelected())
-                .lgtmCount(answer.getLgtmCount())
+                .lgtmCount(lgtmCount)
                 .lgtmReacted(lgtmReacted)
                 .createdAt(answer.getCreatedAt())
                 .updatedAt(answer.getUpdatedAt())
@@ -21,14 +21,16 @@ public class BookmarkDto {
     private LocalDateTime createdAt;
 
     /**
-     * Bookmark 엔티티를 BookmarkDto로 변환
+     * Bookmark 엔티티를 BookmarkDto로 변환 (질문 LGTM 수와 카테고리 지정)
      * @param bookmark 북마크 엔티티
+     * @param questionLgtmCount 반영되지 않은 증감분을 포함한 질문 LGTM 수
+     * @param questionCategory 질문의 카테고리 DTO
      * @return BookmarkDto 객체
      */
-    public static BookmarkDto fromEntity(Bookmark bookmark) {
+    public static BookmarkDto fromEntity(Bookmark bookmark, int questionLgtmCount, CategoryDto questionCategory) {
         return BookmarkDto.builder()
                 .id(bookmark.getId())
-                .question(QuestionDto.fromEntity(bookmark.getQuestion(), true))
+                .question(QuestionDto.fromEntity(bookmark.getQuestion(), true, questionLgtmCount, questionCategory))
                 .createdAt(bookmark.getCreatedAt())
                 .build();
     }
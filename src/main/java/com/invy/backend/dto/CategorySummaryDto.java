@@ -0,0 +1,35 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 목록 조회 시 카테고리 정보와 질문 수를 전달하기 위한 DTO 클래스
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategorySummaryDto {
+    private Long id;
+    private String name;
+    private String description;
+    private int questionCount;
+
+    /**
+     * CategoryDto 와 질문 수로 CategorySummaryDto 생성
+     * @param category 카테고리 DTO
+     * @param questionCount 카테고리의 질문 수
+     * @return CategorySummaryDto 객체
+     */
+    public static CategorySummaryDto of(CategoryDto category, int questionCount) {
+        return CategorySummaryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .questionCount(questionCount)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답을 전달하기 위한 DTO 클래스
+ * - 전체 개수(COUNT) 없이 다음 페이지 커서만 제공
+ * @param <T> 항목 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private String next;
+    private boolean hasNext;
+
+    /**
+     * 요청 크기보다 하나 더 조회한 결과로 커서 페이지 생성
+     * 초과 조회된 항목이 있으면 다음 페이지가 존재하는 것으로 판단
+     * @param rows 최대 size + 1 개의 조회 결과
+     * @param size 요청 페이지 크기
+     * @param cursorOf 마지막 항목으로부터 다음 커서를 만드는 함수
+     * @return CursorPageDto 객체
+     * @param <T> 항목 타입
+     */
+    public static <T> CursorPageDto<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageDto<>(content, next, hasNext);
+    }
+
+    /**
+     * 항목 타입 변환 (커서 정보는 유지)
+     * @param mapper 변환 함수
+     * @return 변환된 CursorPageDto 객체
+     * @param <R> 변환 후 항목 타입
+     */
+    public <R> CursorPageDto<R> map(Function<T, R> mapper) {
+        return new CursorPageDto<>(content.stream().map(mapper).toList(), next, hasNext);
+    }
+}
@@ -0,0 +1,18 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키워드 자동완성 결과를 전달하기 위한 DTO 클래스
+ * - 키워드를 사용하는 질문 수 포함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordSuggestionDto {
+    private Long id;
+    private String name;
+    private int questionCount;
+}
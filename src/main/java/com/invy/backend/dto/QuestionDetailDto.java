@@ -13,11 +13,12 @@ import java.util.stream.Collectors;
 /**
  * 질문 상세 정보를 전달하기 위한 DTO 클래스
  * 질문 상세 조회에 사용
+ * - answers: 추천순 답변 첫 페이지 (이후 페이지는 answersNext 커서로 답변 목록 API 에서 조회)
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class QuestionDetailDto {
     private Long id;
     private String title;
@@ -26,6 +27,8 @@ public class QuestionDetailDto {
     private CategoryDto category;
     private List<KeywordDto> keywords;
     private List<AnswerDto> answers;
+    private String answersNext;
+    private boolean answersHasNext;
     private int lgtmCount;
     private boolean bookmarked;
     private boolean lgtmReacted;
@@ -33,23 +36,29 @@ public class QuestionDetailDto {
     private LocalDateTime updatedAt;
 
     /**
-     * Question 엔티티를 QuestionDetailDto로 변환
+     * Question 엔티티를 QuestionDetailDto로 변환 (LGTM 수와 카테고리 지정)
+     * 카테고리 사전의 DTO 를 사용하여 카테고리 엔티티를 로딩하지 않음
      * @param question 질문 엔티티
      * @param bookmarked 북마크 여부
      * @param lgtmReacted LGTM 반응 여부
-     * @param answers 답변 목록
+     * @param answers 답변 첫 페이지
+     * @param lgtmCount 반영되지 않은 증감분을 포함한 LGTM 수
+     * @param category 카테고리 DTO
      * @return QuestionDetailDto 객체
      */
-    public static QuestionDetailDto fromEntity(Question question, boolean bookmarked, boolean lgtmReacted, List<AnswerDto> answers) {
+    public static QuestionDetailDto fromEntity(Question question, boolean bookmarked, boolean lgtmReacted,
+                                               CursorPageDto<AnswerDto> answers, int lgtmCount, CategoryDto category) {
         return QuestionDetailDto.builder()
                 .id(question.getId())
                 .title(question.getTitle())
                 .content(question.getContent())
                 .defaultAnswer(question.getDefaultAnswer())
-                .category(CategoryDto.fromEntity(question.getCategory()))
+                .category(category)
                 .keywords(question.getKeywords().stream().map(KeywordDto::fromEntity).collect(Collectors.toList()))
-                .answers(answers)
-                .lgtmCount(question.getLgtmCount())
+                .answers(answers.getContent())
+                .answersNext(answers.getNext())
+                .answersHasNext(answers.isHasNext())
+                .lgtmCount(lgtmCount)
                 .bookmarked(bookmarked)
                 .lgtmReacted(lgtmReacted)
                 .createdAt(question.getCreatedAt())
@@ -31,20 +31,23 @@ public class QuestionDto {
     private LocalDateTime updatedAt;
 
     /**
-     * Question 엔티티를 QuestionDto로 변환
+     * Question 엔티티를 QuestionDto로 변환 (LGTM 수와 카테고리 지정)
+     * 카테고리 사전의 DTO 를 사용하여 카테고리 엔티티를 로딩하지 않음
      * @param question 질문 엔티티
      * @param bookmarked 북마크 여부
+     * @param lgtmCount 반영되지 않은 증감분을 포함한 LGTM 수
+     * @param category 카테고리 DTO
      * @return QuestionDto 객체
      */
-    public static QuestionDto fromEntity(Question question, boolean bookmarked) {
+    public static QuestionDto fromEntity(Question question, boolean bookmarked, int lgtmCount, CategoryDto category) {
         return QuestionDto.builder()
                 .id(question.getId())
                 .title(question.getTitle())
                 .content(question.getContent())
                 .defaultAnswer(question.getDefaultAnswer())
-                .category(CategoryDto.fromEntity(question.getCategory()))
+                .category(category)
                 .keywords(question.getKeywords().stream().map(KeywordDto::fromEntity).collect(Collectors.toList()))
-                .lgtmCount(question.getLgtmCount())
+                .lgtmCount(lgtmCount)
                 .bookmarked(bookmarked)
                 .createdAt(question.getCreatedAt())
                 .updatedAt(question.getUpdatedAt())
@@ -0,0 +1,63 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 질문 일괄 가져오기 결과를 전달하기 위한 DTO 클래스
+ * - total/created/failed: 전체, 등록 성공, 실패 레코드 수
+ * - results: 레코드별 결과 (입력 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionImportResultDto {
+    private int total;
+    private int created;
+    private int failed;
+    private List<RecordResult> results;
+
+    /**
+     * 레코드 결과 목록으로 가져오기 결과 생성
+     * @param results 레코드별 결과
+     * @return QuestionImportResultDto 객체
+     */
+    public static QuestionImportResultDto of(List<RecordResult> results) {
+        int created = (int) results.stream().filter(result -> result.getStatus() == Status.CREATED).count();
+        return new QuestionImportResultDto(results.size(), created, results.size() - created, results);
+    }
+
+    /**
+     * 레코드 처리 상태
+     */
+    public enum Status {
+        CREATED, FAILED
+    }
+
+    /**
+     * 레코드 하나의 처리 결과
+     * - line: 레코드가 시작하는 입력 줄 번호 (1부터)
+     * - questionId: 등록된 질문 ID (실패 시 null)
+     * - message: 실패 사유 (성공 시 null)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordResult {
+        private long line;
+        private Status status;
+        private Long questionId;
+        private String message;
+
+        public static RecordResult created(long line, Long questionId) {
+            return new RecordResult(line, Status.CREATED, questionId, null);
+        }
+
+        public static RecordResult failed(long line, String message) {
+            return new RecordResult(line, Status.FAILED, null, message);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 북마크/LGTM 토글 결과를 전달하기 위한 DTO 클래스
+ * - active: 토글 이후 상태 (북마크됨 / LGTM 누름)
+ * - lgtmCount: 토글 이후 LGTM 수 (북마크 토글에서는 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToggleResultDto {
+    private boolean active;
+    private Integer lgtmCount;
+}
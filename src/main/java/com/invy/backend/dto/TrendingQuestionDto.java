@@ -0,0 +1,19 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기(트렌딩) 질문 정보를 전달하기 위한 DTO 클래스
+ * - score: 최근 활동(LGTM, 북마크, 답변)의 시간 감쇠 점수 (같은 응답 안에서만 비교 가능)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingQuestionDto {
+    private Long id;
+    private String title;
+    private CategoryDto category;
+    private double score;
+}
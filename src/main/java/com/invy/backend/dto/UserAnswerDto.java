@@ -0,0 +1,28 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동(내가 작성한 답변) 목록 항목을 전달하기 위한 DTO 클래스
+ * 질문 엔티티를 로딩하지 않도록 JPQL 생성자 표현식으로 필요한 컬럼만 조회
+ * - questionId/questionTitle: 답변이 달린 질문
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserAnswerDto {
+    private Long id;
+    private String content;
+    private boolean isAnonymous;
+    private boolean isSelected;
+    private int lgtmCount;
+    private LocalDateTime createdAt;
+    private Long questionId;
+    private String questionTitle;
+}
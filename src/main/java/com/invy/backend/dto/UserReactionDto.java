@@ -0,0 +1,24 @@
+package com.invy.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동(내가 LGTM 한 질문/답변) 목록 항목을 전달하기 위한 DTO 클래스
+ * 질문/답변 엔티티를 로딩하지 않도록 JPQL 생성자 표현식으로 필요한 컬럼만 조회
+ * - answerId: 답변에 남긴 반응이면 답변 ID, 질문에 남긴 반응이면 null
+ * - questionId/questionTitle: 반응한 질문 (답변 반응이면 답변이 달린 질문)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserReactionDto {
+    private Long id;
+    private Long questionId;
+    private String questionTitle;
+    private Long answerId;
+    private LocalDateTime createdAt;
+}
@@ -12,9 +12,16 @@ import java.time.LocalDateTime;
  * - 익명 여부 선택 가능
  * - 채택 여부 표시
  * - LGTM 반응 수 집계
+ * - ID 는 id_sequences 테이블에서 블록 단위로 할당 (pooled-lo, INSERT 배치 가능)
+ * - 질문별 답변 정렬 방식(추천순, 최신순, LGTM 순)과 사용자별 최신순 커서 조회용 복합 인덱스 보유
  */
 @Entity
-@Table(name = "answers")
+@Table(name = "answers", indexes = {
+        @Index(name = "idx_answers_question_ranked", columnList = "question_id, is_selected, lgtm_count, created_at, id"),
+        @Index(name = "idx_answers_question_created", columnList = "question_id, created_at, id"),
+        @Index(name = "idx_answers_question_lgtm", columnList = "question_id, lgtm_count, created_at, id"),
+        @Index(name = "idx_answers_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +30,10 @@ import java.time.LocalDateTime;
 public class Answer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "answer_id")
+    @TableGenerator(name = "answer_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "answers",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -41,6 +51,8 @@ public class Answer {
 
     private boolean isSelected;
 
+    // LgtmCountBuffer 의 증감 UPDATE 로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private int lgtmCount;
 
     @CreationTimestamp
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
  * - 카테고리별 북마크 모아보기 기능 지원
  */
 @Entity
-@Table(name = "bookmarks")
+@Table(name = "bookmarks", uniqueConstraints = {
+        // 사용자당 질문별 북마크는 하나만 허용 (토글의 조건부 INSERT/DELETE 기준, 기존 DB 는 UniqueKeyMigration 이 보장)
+        @UniqueConstraint(name = "uk_bookmarks_user_question", columnNames = {"user_id", "question_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
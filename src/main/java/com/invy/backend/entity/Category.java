@@ -2,6 +2,8 @@ package com.invy.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,8 +14,11 @@ import java.util.List;
 /**
  * 면접 질문 카테고리를 정의하는 엔티티 클래스
  * - 예: 자료구조, 알고리즘, 데이터베이스, 네트워크 등
+ * - 2차 캐시 대상 (거의 변경되지 않으므로 nonstrict-read-write)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = "categories")
 @Getter
 @Setter
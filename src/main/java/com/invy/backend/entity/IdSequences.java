@@ -0,0 +1,31 @@
+package com.invy.backend.entity;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 ID 할당기(id_sequences) 설정 상수
+ * - IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 Hibernate 가 JDBC 배치를 사용하지 않음
+ * - 대량으로 생성되는 엔티티(질문, 답변)는 이 테이블에서 ALLOCATION_SIZE 개씩 ID 블록을 미리 할당받아 배치 INSERT
+ * - 최적화 방식은 pooled-lo (hibernate.id.optimizer.pooled.preferred), 행의 next_val 이 다음 블록의 시작 ID
+ *
+ * 네이티브 INSERT IGNORE 로 행을 추가하는 엔티티(반응, 북마크, 키워드 등)는 DB 자동 증가 컬럼이 필요하므로 IDENTITY 유지
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 한 번에 할당받는 ID 수 (hibernate.jdbc.batch_size 와 같게 유지)
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * 테이블 기반 ID 를 사용하는 테이블 (sequence_name 값 = 테이블 이름)
+     */
+    public static final List<String> POOLED_TABLES = List.of("questions", "answers");
+
+    private IdSequences() {
+    }
+}
@@ -2,6 +2,8 @@ package com.invy.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,8 +15,11 @@ import java.util.Set;
  * 면접 질문 키워드를 저장하는 엔티티 클래스
  * - 검색 및 필터링에 사용
  * - 여러 질문과 다대다 관계 형성
+ * - 2차 캐시 대상 (생성 후 거의 변경되지 않으므로 nonstrict-read-write)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = "keywords")
 @Getter
 @Setter
@@ -0,0 +1,30 @@
+package com.invy.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 질문 목록의 변경 버전을 저장하는 엔티티 클래스
+ * - 조건부 GET 의 목록 ETag 를 집계 쿼리 없이 기본 키 조회로 계산하기 위해 유지
+ * - 범위(scope)별 한 행: 전체 목록은 ALL_SCOPE, 카테고리 목록은 카테고리 ID
+ * - 목록에 보이는 내용(질문 등록/수정/삭제, 기본 답변 변경, LGTM 수 반영)이 바뀔 때 ContentVersionService 가 증가시킴
+ * - 행은 처음 증가할 때 생성되며 (INSERT ... ON DUPLICATE KEY UPDATE), 엔티티로 저장하지 않음
+ */
+@Entity
+@Table(name = "list_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListVersion {
+
+    /**
+     * 전체 질문 목록의 범위 ID (카테고리 ID 는 1 부터 시작)
+     */
+    public static final long ALL_SCOPE = 0L;
+
+    @Id
+    private Long scopeId;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -2,7 +2,10 @@ package com.invy.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,9 +19,19 @@ import java.util.Set;
  * - 질문 제목, 내용, 기본 답변 포함
  * - 카테고리, 키워드와 연결
  * - 사용자 답변, 북마크, LGTM 반응과 연결
+ * - 2차 캐시 대상 (read-write, 키워드 컬렉션 포함)
+ * - ID 는 id_sequences 테이블에서 블록 단위로 할당 (pooled-lo, INSERT 배치 가능)
+ * - 삭제는 deletedAt 표시 후 QuestionPurgeService 가 연관 행을 청크 단위로 정리 (표시된 질문은 조회되지 않음)
  */
 @Entity
-@Table(name = "questions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "questions", indexes = {
+        // 제목 순 커서 페이지네이션용 인덱스
+        @Index(name = "idx_questions_title_id", columnList = "title, id"),
+        @Index(name = "idx_questions_category_title_id", columnList = "category_id, title, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,7 +40,10 @@ import java.util.Set;
 public class Question {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "question_id")
+    @TableGenerator(name = "question_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "questions",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -44,6 +60,7 @@ public class Question {
     private Category category;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "question_keywords",
             joinColumns = @JoinColumn(name = "question_id"),
@@ -51,18 +68,27 @@ public class Question {
     )
     private Set<Keyword> keywords = new HashSet<>();
 
-    @OneToMany(mappedBy = "question", cascade = CascadeType.ALL)
+    // 답변/북마크는 QuestionPurgeService 가 일괄 삭제 (엔티티 cascade 로 한 건씩 로딩/삭제하지 않음)
+    @OneToMany(mappedBy = "question")
     private List<Answer> answers = new ArrayList<>();
 
-    @OneToMany(mappedBy = "question", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "question")
     private Set<Bookmark> bookmarks = new HashSet<>();
 
-    @Column(nullable = false)
+    // LgtmCountBuffer 의 증감 UPDATE 로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private int lgtmCount;
 
+    // 질문 상세 응답의 변경 버전 (조건부 GET 용), ContentVersionService 의 증가 UPDATE 로만 변경
+    @Column(nullable = false, updatable = false)
+    private long contentVersion;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // 삭제 요청 시각 (연관 행 정리가 끝나면 행 자체가 삭제됨)
+    private LocalDateTime deletedAt;
 }
\ No newline at end of file
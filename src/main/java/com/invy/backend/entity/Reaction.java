@@ -11,9 +11,16 @@ import java.time.LocalDateTime;
  * 사용자가 질문이나 답변에 LGTM(좋아요) 반응을 남긴 정보를 저장하는 엔티티 클래스
  * - 질문 또는 답변 중 하나에만 연결됨 (둘 다 연결되지 않음)
  * - 사용자 당 질문/답변 별로 최대 1개의 반응만 가능
+ * - 사용자별 최신순 커서 조회용 (user_id, created_at, id) 인덱스 보유
  */
 @Entity
-@Table(name = "reactions")
+@Table(name = "reactions", indexes = {
+        @Index(name = "idx_reactions_user_created", columnList = "user_id, created_at, id")
+}, uniqueConstraints = {
+        // 사용자당 질문/답변별 반응은 하나만 허용 (토글의 조건부 INSERT/DELETE 기준, 기존 DB 는 UniqueKeyMigration 이 보장)
+        @UniqueConstraint(name = "uk_reactions_user_question", columnNames = {"user_id", "question_id"}),
+        @UniqueConstraint(name = "uk_reactions_user_answer", columnNames = {"user_id", "answer_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
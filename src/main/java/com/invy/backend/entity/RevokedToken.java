@@ -0,0 +1,35 @@
+package com.invy.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT 토큰을 저장하는 엔티티 클래스
+ * - 토큰의 jti(토큰 ID) 클레임을 키로 사용
+ * - 토큰 만료 시각 이후에는 보관할 필요가 없으므로 정리 대상
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp // 폐기 시각
+    private LocalDateTime createdAt;
+}
@@ -14,6 +14,7 @@ import java.util.Set;
  * - 소셜 로그인 정보 (Google, Kakao, Apple)
  * - 사용자 기본 정보 (이메일, 이름, 프로필 이미지)
  * - 권한 정보 (일반 사용자, 관리자)
+ * - 탈퇴 요청 시각 (탈퇴 처리 중인 사용자는 인증 불가, AccountPurgeService 가 연관 데이터 정리 후 행 삭제)
  */
 @Entity
 @Table(name = "users") // 'user'는 SQL 예약어이므로 'users'로 테이블명 지정
@@ -43,7 +44,8 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    // 북마크는 AccountPurgeService 가 일괄 삭제 (엔티티 cascade 로 한 건씩 로딩/삭제하지 않음)
+    @OneToMany(mappedBy = "user")
     private Set<Bookmark> bookmarks = new HashSet<>();
 
     @CreationTimestamp // 엔티티 생성 시간 자동 기록
@@ -52,6 +54,20 @@ public class User {
     @UpdateTimestamp // 엔티티 수정 시간 자동 기록
     private LocalDateTime updatedAt;
 
+    private LocalDateTime deletedAt; // 탈퇴 요청 시간 (null 이면 활성 사용자)
+
+    // 사용자별 응답 상태(북마크, LGTM 반응)의 변경 버전 (조건부 GET 용), ContentVersionService 의 증가 UPDATE 로만 변경
+    @Column(nullable = false, updatable = false)
+    private long activityVersion;
+
+    /**
+     * 탈퇴 처리 중인 사용자인지 확인
+     * @return 탈퇴 요청 후 정리 중이면 true
+     */
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     /**
      * 인증 제공자 열거형
      * - LOCAL: 자체 로그인 (향후 구현 예정)
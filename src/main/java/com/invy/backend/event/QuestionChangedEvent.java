@@ -0,0 +1,48 @@
+package com.invy.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 관리자에 의해 질문이 등록/수정/삭제되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 인메모리 색인 등을 갱신하는 데 사용
+ * - keywords: 변경 후 연결된 키워드 (ID -> 이름), 삭제 시 비어 있음
+ * - previousKeywords: 변경 전 연결된 키워드 (ID -> 이름), 등록 시 비어 있음
+ * - categoryId / previousCategoryId: 변경 후/전 카테고리 ID (없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionChangedEvent {
+
+    private final Type type;
+    private final Long questionId;
+    private final String title;
+    private final String content;
+    private final String defaultAnswer;
+    private final Map<Long, String> keywords;
+    private final Map<Long, String> previousKeywords;
+    private final Long categoryId;
+    private final Long previousCategoryId;
+
+    /**
+     * 삭제 이벤트 생성
+     * @param questionId 삭제된 질문 ID
+     * @param previousKeywords 삭제 전 연결된 키워드
+     * @param previousCategoryId 삭제 전 카테고리 ID
+     * @return QuestionChangedEvent 객체
+     */
+    public static QuestionChangedEvent deleted(Long questionId, Map<Long, String> previousKeywords,
+                                               Long previousCategoryId) {
+        return new QuestionChangedEvent(Type.DELETED, questionId, null, null, null, Map.of(), previousKeywords,
+                null, previousCategoryId);
+    }
+
+    /**
+     * 변경 유형 열거형
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
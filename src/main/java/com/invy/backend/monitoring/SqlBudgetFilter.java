@@ -0,0 +1,103 @@
+package com.invy.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 JDBC 시간을 집계하고 예산 초과를 알리는 필터
+ * - 엔드포인트(메서드, 경로 패턴)별로 sql.request.statements / sql.request.jdbc.time 메트릭 기록
+ * - 예산을 넘으면 경고 로그와 sql.request.budget.exceeded 메트릭 기록
+ * - 같은 형태의 문장이 반복 실행되면 N+1 의심으로 경고
+ * - 제외된 엔드포인트(일괄 가져오기 등 입력 크기에 비례)는 메트릭만 기록
+ * - 집계 결과는 요청 속성(SqlRequestStats.REQUEST_ATTRIBUTE)으로 남아 테스트에서 확인 가능
+ *
+ * 보안 필터 등 다른 필터에서 실행되는 SQL 도 포함하도록 가장 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_PATTERN = "UNKNOWN";
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            request.setAttribute(SqlRequestStats.REQUEST_ATTRIBUTE, stats);
+            report(request, stats);
+        }
+    }
+
+    /**
+     * 요청의 SQL 통계를 메트릭으로 기록하고 예산 초과/반복 실행을 경고
+     * @param request HTTP 요청
+     * @param stats SQL 통계
+     */
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_PATTERN;
+        String method = request.getMethod();
+        String endpoint = method + " " + uri;
+
+        DistributionSummary.builder("sql.request.statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("sql.request.jdbc.time")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (properties.isExcluded(endpoint)) {
+            return;
+        }
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getStatementCount() > budget) {
+            meterRegistry.counter("sql.request.budget.exceeded", "method", method, "uri", uri).increment();
+            log.warn("SQL budget exceeded: {} executed {} statements (budget {}), jdbc {} ms",
+                    endpoint, stats.getStatementCount(), budget, TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        }
+
+        stats.mostRepeatedStatement()
+                .filter(entry -> entry.getValue() >= properties.getRepeatedStatementThreshold())
+                .ifPresent(entry -> warnRepeated(endpoint, entry));
+    }
+
+    private void warnRepeated(String endpoint, Map.Entry<String, Integer> statement) {
+        log.warn("Possible N+1 on {}: same statement executed {} times: {}",
+                endpoint, statement.getValue(), statement.getKey());
+    }
+}
@@ -0,0 +1,51 @@
+package com.invy.backend.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청당 SQL 문 수 예산 설정 (app.sql-budget)
+ * - default-max-statements: 엔드포인트별 예산이 없을 때 적용되는 최대 문장 수
+ * - endpoints: "메서드 경로패턴" -> 최대 문장 수 (예: "GET /api/v1/questions/{questionId}")
+ * - repeated-statement-threshold: 같은 형태의 문장이 이 횟수 이상 실행되면 N+1 의심으로 경고
+ * - excluded-endpoints: 문장 수가 입력 크기에 비례하는 엔드포인트 (메트릭만 기록하고 예산/반복 검사 제외)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+
+    private int defaultMaxStatements = 10;
+
+    private int repeatedStatementThreshold = 5;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    private Set<String> excludedEndpoints = new HashSet<>();
+
+    /**
+     * 엔드포인트의 SQL 문 수 예산
+     * @param endpoint "메서드 경로패턴" 형식의 엔드포인트
+     * @return 최대 문장 수
+     */
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+    }
+
+    /**
+     * 예산/반복 검사에서 제외된 엔드포인트인지 확인
+     * @param endpoint "메서드 경로패턴" 형식의 엔드포인트
+     * @return 제외 대상이면 true
+     */
+    public boolean isExcluded(String endpoint) {
+        return excludedEndpoints.contains(endpoint);
+    }
+}
@@ -0,0 +1,83 @@
+package com.invy.backend.monitoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 하나의 HTTP 요청 동안 실행된 SQL 문 통계
+ * - 실행된 문장 수와 JDBC 실행 시간 합계
+ * - 같은 형태(바인딩 전 SQL)의 문장이 몇 번 실행되었는지 (N+1 탐지용)
+ *
+ * 요청 스레드의 ThreadLocal 에 보관되며, 요청이 끝나면 요청 속성(REQUEST_ATTRIBUTE)으로 남음
+ * 요청 밖(스케줄러 등)에서 실행된 SQL 은 집계하지 않음
+ */
+public class SqlRequestStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlRequestStats.class.getName();
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long jdbcNanos;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    /**
+     * 현재 스레드에서 SQL 집계 시작
+     * @return 새 통계 객체
+     */
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 SQL 집계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 집계 중인 통계
+     * @return 통계 객체, 집계 중이 아니면 null
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * 문장 형태별 실행 횟수
+     * @return SQL -> 실행 횟수 (읽기 전용)
+     */
+    public Map<String, Integer> getStatementCounts() {
+        return Collections.unmodifiableMap(statementCounts);
+    }
+
+    /**
+     * 가장 많이 반복 실행된 문장
+     * @return (SQL, 실행 횟수) Optional 객체, 실행된 문장이 없으면 빈 값
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
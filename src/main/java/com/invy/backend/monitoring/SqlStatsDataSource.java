@@ -0,0 +1,108 @@
+package com.invy.backend.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션에서 실행되는 모든 SQL 문을 현재 요청의 통계에 집계하는 DataSource 래퍼
+ * - Hibernate 뿐 아니라 JdbcTemplate 등 커넥션을 직접 사용하는 경로도 함께 집계
+ * - 문장 수: PreparedStatement/CallableStatement 는 준비 1회를 1 문장으로 집계 (배치는 항목 수와 무관하게 1 문장)
+ *   일반 Statement 는 SQL 을 전달하는 execute*, addBatch 호출마다 1 문장으로 집계
+ * - JDBC 시간: execute*, executeBatch 의 실행 시간 합계
+ *
+ * 요청 스레드(SqlRequestStats 집계 중)가 아니면 집계하지 않고 그대로 위임
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    switch (method.getName()) {
+                        case "prepareStatement" -> {
+                            recordStatement((String) args[0]);
+                            return wrapStatement((Statement) result, PreparedStatement.class);
+                        }
+                        case "prepareCall" -> {
+                            recordStatement((String) args[0]);
+                            return wrapStatement((Statement) result, CallableStatement.class);
+                        }
+                        case "createStatement" -> {
+                            return wrapStatement((Statement) result, Statement.class);
+                        }
+                        default -> {
+                            return result;
+                        }
+                    }
+                });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<? extends Statement> type) {
+        return Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    boolean sqlArgument = args != null && args.length > 0 && args[0] instanceof String;
+                    if (name.equals("addBatch") && sqlArgument) {
+                        recordStatement((String) args[0]);
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+
+                    if (sqlArgument) {
+                        recordStatement((String) args[0]);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        recordJdbcTime(System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static void recordStatement(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+    }
+
+    private static void recordJdbcTime(long nanos) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.recordJdbcTime(nanos);
+        }
+    }
+}
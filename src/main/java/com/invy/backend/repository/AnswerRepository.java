@@ -1,33 +1,118 @@
 package com.invy.backend.repository;
 
+import com.invy.backend.dto.UserAnswerDto;
 import com.invy.backend.entity.Answer;
 import com.invy.backend.entity.Question;
-import com.invy.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 답변(Answer) 엔티티에 접근하기 위한 repository 인터페이스
- * - 질문별 답변 조회 (채택 여부, 좋아요 수, 작성일 기준 정렬)
+ * - 질문별 답변 커서 기반 조회 (추천순, 최신순, LGTM 순)
  * - 채택된 답변 조회
- * - 사용자별 답변 조회
+ * - 사용자별 답변 커서 기반 조회 (작성일 최신순, 질문 엔티티 로딩 없음)
+ * - 질문 삭제 시 답변 일괄 삭제, 회원 탈퇴 시 답변 익명화 (ID 청크 단위)
  */
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
     /**
-     * 질문에 대한 모든 답변을 다음 순서로 정렬하여 조회
+     * 질문의 답변을 추천순으로 첫 페이지 조회 (COUNT 쿼리 없음)
      * 1. 채택 여부 (채택된 답변 우선)
-     * 2. 좋아요 수 (많은 순)
-     * 3. 작성일 (최신순)
-     *
-     * @param question 질문 객체
-     * @return 정렬된 답변 목록
+     * 2. LGTM 수 (많은 순)
+     * 3. 작성일 (최신순), ID (큰 순)
+     * (question_id, is_selected, lgtm_count, created_at, id) 인덱스를 역순으로 탐색하며 작성자는 함께 조회
+     * @param questionId 질문 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId " +
+            "ORDER BY a.isSelected DESC, a.lgtmCount DESC, a.createdAt DESC, a.id DESC")
+    List<Answer> findFirstRanked(Long questionId, Pageable pageable);
+
+    /**
+     * 질문의 답변을 추천순으로 커서 이후 페이지 조회
+     * 채택된 답변은 최대 하나이므로 커서가 채택 답변이면 나머지 전체가 다음 범위에 포함됨
+     * @param questionId 질문 ID
+     * @param selected 커서 채택 여부
+     * @param lgtmCount 커서 LGTM 수
+     * @param createdAt 커서 작성일
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId " +
+            "AND ((:selected = true AND a.isSelected = false) OR (a.isSelected = :selected " +
+            "AND (a.lgtmCount < :lgtmCount OR (a.lgtmCount = :lgtmCount " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)))))) " +
+            "ORDER BY a.isSelected DESC, a.lgtmCount DESC, a.createdAt DESC, a.id DESC")
+    List<Answer> findAfterRanked(Long questionId, boolean selected, int lgtmCount, LocalDateTime createdAt, Long id,
+                                 Pageable pageable);
+
+    /**
+     * 질문의 답변을 최신순으로 첫 페이지 조회 ((question_id, created_at, id) 인덱스)
+     * @param questionId 질문 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Answer> findFirstNewest(Long questionId, Pageable pageable);
+
+    /**
+     * 질문의 답변을 최신순으로 커서 이후 페이지 조회
+     * @param questionId 질문 ID
+     * @param createdAt 커서 작성일
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
      */
-    List<Answer> findByQuestionOrderByIsSelectedDescLgtmCountDescCreatedAtDesc(Question question);
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Answer> findAfterNewest(Long questionId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 질문의 답변을 LGTM 순으로 첫 페이지 조회 ((question_id, lgtm_count, created_at, id) 인덱스)
+     * @param questionId 질문 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId " +
+            "ORDER BY a.lgtmCount DESC, a.createdAt DESC, a.id DESC")
+    List<Answer> findFirstTop(Long questionId, Pageable pageable);
+
+    /**
+     * 질문의 답변을 LGTM 순으로 커서 이후 페이지 조회
+     * @param questionId 질문 ID
+     * @param lgtmCount 커서 LGTM 수
+     * @param createdAt 커서 작성일
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId " +
+            "AND (a.lgtmCount < :lgtmCount OR (a.lgtmCount = :lgtmCount " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)))) " +
+            "ORDER BY a.lgtmCount DESC, a.createdAt DESC, a.id DESC")
+    List<Answer> findAfterTop(Long questionId, int lgtmCount, LocalDateTime createdAt, Long id, Pageable pageable);
 
     /**
      * 질문에 대해 채택된 답변 조회
@@ -37,9 +122,91 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     Optional<Answer> findByQuestionAndIsSelectedTrue(Question question);
 
     /**
-     * 특정 사용자가 작성한 모든 답변 조회
-     * @param user 사용자 객체
-     * @return 사용자가 작성한 답변 목록
+     * 사용자가 작성한 답변을 최신순으로 첫 페이지 조회
+     * (user_id, created_at, id) 인덱스를 역순으로 탐색하고, 질문은 ID 와 제목만 조회
+     * @param userId 사용자 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @Query("SELECT new com.invy.backend.dto.UserAnswerDto(a.id, a.content, a.isAnonymous, a.isSelected, " +
+            "a.lgtmCount, a.createdAt, q.id, q.title) " +
+            "FROM Answer a JOIN a.question q WHERE a.user.id = :userId AND q.deletedAt IS NULL " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UserAnswerDto> findFirstByUserCursor(Long userId, Pageable pageable);
+
+    /**
+     * 사용자가 작성한 답변을 최신순으로 커서 이후 페이지 조회
+     * @param userId 사용자 ID
+     * @param createdAt 커서 작성일
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 답변 목록
+     */
+    @Query("SELECT new com.invy.backend.dto.UserAnswerDto(a.id, a.content, a.isAnonymous, a.isSelected, " +
+            "a.lgtmCount, a.createdAt, q.id, q.title) " +
+            "FROM Answer a JOIN a.question q WHERE a.user.id = :userId AND q.deletedAt IS NULL " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UserAnswerDto> findAfterByUserCursor(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 답변의 저장된 LGTM 수 조회 (엔티티 로딩 없이 존재 여부 확인 겸용)
+     * @param id 답변 ID
+     * @return LGTM 수 Optional 객체
+     */
+    @Query("SELECT a.lgtmCount FROM Answer a WHERE a.id = :id")
+    Optional<Integer> findLgtmCountById(Long id);
+
+    /**
+     * 질문의 답변 수 조회 (삭제 방식 결정용)
+     * @param questionId 질문 ID
+     * @return 답변 수
+     */
+    long countByQuestionId(Long questionId);
+
+    /**
+     * 질문의 답변 ID 를 오름차순으로 최대 limit 개 조회 (삭제 청크 구성용)
+     * @param questionId 질문 ID
+     * @param limit 최대 개수
+     * @return 답변 ID 목록
+     */
+    @Query(value = "SELECT id FROM answers WHERE question_id = :questionId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByQuestionId(Long questionId, int limit);
+
+    /**
+     * ID 목록으로 답변 일괄 삭제 (엔티티 로딩 없음)
+     * @param ids 답변 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "answers"))
+    @Query(value = "DELETE FROM answers WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자의 답변 ID 를 오름차순으로 최대 limit 개 조회 (탈퇴 정리 청크 구성용)
+     * @param userId 사용자 ID
+     * @param limit 최대 개수
+     * @return 답변 ID 목록
+     */
+    @Query(value = "SELECT id FROM answers WHERE user_id = :userId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByUserId(Long userId, int limit);
+
+    /**
+     * 사용자의 답변 수 조회 (탈퇴 정리 진행 상황용)
+     * @param userId 사용자 ID
+     * @return 답변 수
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 답변 익명화 (작성자 연결 해제, 내용은 유지)
+     * @param ids 답변 ID 목록
+     * @return 변경된 행 수
      */
-    List<Answer> findByUser(User user);
-}
\ No newline at end of file
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "answers"))
+    @Query(value = "UPDATE answers SET user_id = NULL, is_anonymous = TRUE, updated_at = NOW() WHERE id IN (:ids)",
+            nativeQuery = true)
+    int anonymizeByIdIn(Collection<Long> ids);
+}
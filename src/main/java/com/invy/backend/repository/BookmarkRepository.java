@@ -4,13 +4,21 @@ import com.invy.backend.entity.Bookmark;
 import com.invy.backend.entity.Category;
 import com.invy.backend.entity.Question;
 import com.invy.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 북마크(Bookmark) 엔티티에 접근하기 위한 repository 인터페이스
@@ -18,6 +26,11 @@ import java.util.Optional;
  * - 사용자별 북마크 조회
  * - 사용자별, 카테고리별 북마크 조회
  * - 북마크 존재 여부 확인
+ * - 질문 목록에 대한 북마크 여부 일괄 조회
+ * - 북마크 토글용 조건부 추가/삭제
+ * - 질문 삭제, 회원 탈퇴 시 북마크 일괄 삭제 (ID 청크 단위)
+ *
+ * 네이티브 변경 쿼리는 bookmarks 테이블만 동기화 대상으로 지정하여 2차 캐시 전체 무효화를 막음
  */
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
@@ -32,21 +45,27 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     /**
      * 특정 사용자의 모든 북마크 조회 (페이징 처리)
+     * 삭제 대기 중인(숨겨진) 질문의 북마크는 제외
      * @param user 사용자 객체
      * @param pageable 페이징 정보
      * @return 북마크 페이지 객체
      */
+    @EntityGraph(attributePaths = "question")
+    @Query(value = "SELECT b FROM Bookmark b WHERE b.user = :user AND b.question.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.user = :user AND b.question.deletedAt IS NULL")
     Page<Bookmark> findByUser(User user, Pageable pageable);
 
     /**
      * 특정 사용자의 특정 카테고리에 속하는 북마크 조회 (페이징 처리)
-     * JPQL 쿼리를 사용해 질문의 카테고리까지 조건에 포함
+     * JPQL 쿼리를 사용해 질문의 카테고리까지 조건에 포함 (삭제 대기 중인 질문 제외)
      * @param user 사용자 객체
      * @param category 카테고리 객체
      * @param pageable 페이징 정보
      * @return 북마크 페이지 객체
      */
-    @Query("SELECT b FROM Bookmark b WHERE b.user = :user AND b.question.category = :category")
+    @EntityGraph(attributePaths = "question")
+    @Query("SELECT b FROM Bookmark b WHERE b.user = :user AND b.question.category = :category " +
+            "AND b.question.deletedAt IS NULL")
     Page<Bookmark> findByUserAndCategory(User user, Category category, Pageable pageable);
 
     /**
@@ -56,4 +75,73 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      * @return 북마크 존재 여부 (true/false)
      */
     boolean existsByUserAndQuestion(User user, Question question);
-}
\ No newline at end of file
+
+    /**
+     * 주어진 질문 ID 목록 중 특정 사용자가 북마크한 질문 ID 조회
+     * 목록 페이지의 북마크 여부를 한 번의 IN 쿼리로 판별하기 위해 사용
+     * @param userId 사용자 ID
+     * @param questionIds 질문 ID 목록
+     * @return 북마크된 질문 ID 집합
+     */
+    @Query("SELECT b.question.id FROM Bookmark b WHERE b.user.id = :userId AND b.question.id IN :questionIds")
+    Set<Long> findBookmarkedQuestionIds(Long userId, Collection<Long> questionIds);
+
+    /**
+     * 사용자의 특정 질문 북마크 삭제
+     * @param userId 사용자 ID
+     * @param questionId 질문 ID
+     * @return 삭제된 행 수 (0 이면 북마크가 없었음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "DELETE FROM bookmarks WHERE user_id = :userId AND question_id = :questionId", nativeQuery = true)
+    int deleteByUserIdAndQuestionId(Long userId, Long questionId);
+
+    /**
+     * 사용자의 특정 질문 북마크 추가 (이미 있으면 무시)
+     * (user_id, question_id) 유니크 키로 중복 생성 방지
+     * @param userId 사용자 ID
+     * @param questionId 질문 ID
+     * @return 추가된 행 수 (0 이면 이미 존재)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "INSERT IGNORE INTO bookmarks (user_id, question_id, created_at, updated_at) " +
+            "VALUES (:userId, :questionId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(Long userId, Long questionId);
+
+    /**
+     * 질문의 북마크 ID 를 오름차순으로 최대 limit 개 조회 (삭제 청크 구성용)
+     * @param questionId 질문 ID
+     * @param limit 최대 개수
+     * @return 북마크 ID 목록
+     */
+    @Query(value = "SELECT id FROM bookmarks WHERE question_id = :questionId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByQuestionId(Long questionId, int limit);
+
+    /**
+     * ID 목록으로 북마크 일괄 삭제 (엔티티 로딩 없음)
+     * @param ids 북마크 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "DELETE FROM bookmarks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자의 북마크 ID 를 오름차순으로 최대 limit 개 조회 (탈퇴 정리 청크 구성용)
+     * @param userId 사용자 ID
+     * @param limit 최대 개수
+     * @return 북마크 ID 목록
+     */
+    @Query(value = "SELECT id FROM bookmarks WHERE user_id = :userId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByUserId(Long userId, int limit);
+
+    /**
+     * 사용자의 북마크 수 조회 (탈퇴 정리 진행 상황용)
+     * @param userId 사용자 ID
+     * @return 북마크 수
+     */
+    long countByUserId(Long userId);
+}
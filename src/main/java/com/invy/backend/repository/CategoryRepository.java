@@ -2,13 +2,16 @@ package com.invy.backend.repository;
 
 import com.invy.backend.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 카테고리(Category) 엔티티에 접근하기 위한 repository 인터페이스
  * - 카테고리 이름으로 조회
+ * - 카테고리별 질문 수 조회
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -19,4 +22,20 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return 카테고리 Optional 객체
      */
     Optional<Category> findByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * 모든 카테고리의 질문 수 조회 (카테고리 사전 초기화/재동기화용)
+     * @return 카테고리별 질문 수 목록
+     */
+    @Query("SELECT c.id AS id, COUNT(q) AS questionCount FROM Category c LEFT JOIN c.questions q GROUP BY c.id")
+    List<CategoryUsage> findAllWithQuestionCount();
+
+    /**
+     * 카테고리별 질문 수 조회 결과 projection
+     */
+    interface CategoryUsage {
+        Long getId();
+
+        long getQuestionCount();
+    }
+}
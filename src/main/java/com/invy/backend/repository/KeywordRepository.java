@@ -1,18 +1,25 @@
 package com.invy.backend.repository;
 
 import com.invy.backend.entity.Keyword;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 키워드(Keyword) 엔티티에 접근하기 위한 repository 인터페이스
  * - 키워드 이름으로 조회
+ * - 키워드 이름 목록으로 일괄 조회
  * - 모든 키워드 이름순 정렬 조회
  * - 키워드 이름 검색 (부분 일치)
+ * - 키워드별 사용 질문 수 조회
  */
 @Repository
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
@@ -24,6 +31,24 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
      */
     Optional<Keyword> findByName(String name);
 
+    /**
+     * 키워드 이름 목록으로 키워드 일괄 조회 (한 번의 IN 쿼리)
+     * @param names 키워드 이름 목록
+     * @return 존재하는 키워드 목록
+     */
+    List<Keyword> findByNameIn(Collection<String> names);
+
+    /**
+     * 키워드 이름 목록으로 키워드 일괄 조회 (공유 잠금 읽기)
+     * 잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋 행을 읽으므로,
+     * INSERT IGNORE 가 다른 트랜잭션이 만든 행 때문에 무시된 경우에도 그 행을 조회할 수 있음
+     * @param names 키워드 이름 목록
+     * @return 존재하는 키워드 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT k FROM Keyword k WHERE k.name IN :names")
+    List<Keyword> findByNameInForShare(Collection<String> names);
+
     /**
      * 모든 키워드를 이름 기준 오름차순으로 조회 (페이징 처리)
      * @param pageable 페이징 정보
@@ -39,4 +64,24 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
      * @return 키워드 페이지 객체
      */
     Page<Keyword> findByNameContainingOrderByNameAsc(String name, Pageable pageable);
+
+    /**
+     * 모든 키워드와 각 키워드를 사용하는 질문 수 조회
+     * 자동완성 사전 구성 시 한 번만 사용
+     * @return 키워드 사용 현황 목록
+     */
+    @Query("SELECT k.id AS id, k.name AS name, COUNT(q) AS questionCount " +
+            "FROM Keyword k LEFT JOIN k.questions q GROUP BY k.id, k.name")
+    List<KeywordUsage> findAllWithQuestionCount();
+
+    /**
+     * 키워드 사용 현황 projection
+     */
+    interface KeywordUsage {
+        Long getId();
+
+        String getName();
+
+        long getQuestionCount();
+    }
 }
\ No newline at end of file
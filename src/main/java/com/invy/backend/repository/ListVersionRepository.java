@@ -0,0 +1,26 @@
+package com.invy.backend.repository;
+
+import com.invy.backend.entity.ListVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 질문 목록 변경 버전(ListVersion) 엔티티에 접근하기 위한 repository 인터페이스
+ * - 범위별 버전 조회 (기본 키 조회)
+ *
+ * 버전 증가는 ContentVersionService 가 JDBC 로 직접 수행
+ */
+@Repository
+public interface ListVersionRepository extends JpaRepository<ListVersion, Long> {
+
+    /**
+     * 범위별 목록 버전 조회 (조건부 GET 의 ETag 계산용)
+     * @param scopeId 범위 ID (ListVersion.ALL_SCOPE 또는 카테고리 ID)
+     * @return 버전 Optional 객체 (아직 변경된 적이 없으면 빈 값)
+     */
+    @Query("SELECT v.version FROM ListVersion v WHERE v.scopeId = :scopeId")
+    Optional<Long> findVersionByScopeId(Long scopeId);
+}
@@ -2,18 +2,34 @@ package com.invy.backend.repository;
 
 import com.invy.backend.entity.Category;
 import com.invy.backend.entity.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 면접 질문(Question) 엔티티에 접근하기 위한 repository 인터페이스
  * - 제목 기준 정렬 조회
  * - 카테고리별 조회
  * - 키워드 검색
  * - 제목/내용 검색
+ * - 제목 순 커서(keyset) 페이지네이션
+ * - 삭제 표시 및 정리 대기 질문 조회
+ *
+ * 삭제 표시된 질문은 엔티티의 @SQLRestriction 으로 JPQL 조회에서 자동 제외되고, 네이티브 조회에는 조건을 직접 포함
+ *
+ * 카테고리는 CategoryService 의 메모리 사전에서 조회하므로 함께 로딩하지 않고,
+ * 키워드 컬렉션은 2차 캐시에서 조회하거나 hibernate.default_batch_fetch_size 설정에 따라 페이지 단위로 일괄 로딩됨
  */
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
@@ -40,7 +56,7 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      * @param pageable 페이징 정보
      * @return 질문 페이지 객체
      */
-    @Query("SELECT q FROM Question q JOIN q.keywords k WHERE k.name LIKE %:keyword%")
+    @Query("SELECT DISTINCT q FROM Question q JOIN q.keywords k WHERE k.name LIKE %:keyword%")
     Page<Question> findByKeywordContaining(String keyword, Pageable pageable);
 
     /**
@@ -51,4 +67,130 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      */
     @Query("SELECT q FROM Question q WHERE q.title LIKE %:searchTerm% OR q.content LIKE %:searchTerm%")
     Page<Question> searchByTitleOrContent(String searchTerm, Pageable pageable);
+
+    /**
+     * 제목, ID 기준 오름차순 첫 페이지 조회 (COUNT 쿼리 없음)
+     * @param pageable 조회 개수 (offset 0)
+     * @return 질문 목록
+     */
+    @Query("SELECT q FROM Question q ORDER BY q.title ASC, q.id ASC")
+    List<Question> findFirstByTitleCursor(Pageable pageable);
+
+    /**
+     * 커서 (title, id) 이후의 질문을 제목, ID 기준 오름차순 조회 (COUNT 쿼리 없음)
+     * (title, id) 인덱스를 범위 탐색하므로 페이지 깊이와 무관하게 일정한 비용
+     * @param title 커서 제목
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 질문 목록
+     */
+    @Query("SELECT q FROM Question q WHERE q.title > :title OR (q.title = :title AND q.id > :id) " +
+            "ORDER BY q.title ASC, q.id ASC")
+    List<Question> findAfterTitleCursor(String title, Long id, Pageable pageable);
+
+    /**
+     * 특정 카테고리의 제목, ID 기준 오름차순 첫 페이지 조회 (COUNT 쿼리 없음)
+     * @param categoryId 카테고리 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 질문 목록
+     */
+    @Query("SELECT q FROM Question q WHERE q.category.id = :categoryId ORDER BY q.title ASC, q.id ASC")
+    List<Question> findFirstByCategoryAndTitleCursor(Long categoryId, Pageable pageable);
+
+    /**
+     * 특정 카테고리에서 커서 (title, id) 이후의 질문을 제목, ID 기준 오름차순 조회 (COUNT 쿼리 없음)
+     * @param categoryId 카테고리 ID
+     * @param title 커서 제목
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 질문 목록
+     */
+    @Query("SELECT q FROM Question q WHERE q.category.id = :categoryId " +
+            "AND (q.title > :title OR (q.title = :title AND q.id > :id)) " +
+            "ORDER BY q.title ASC, q.id ASC")
+    List<Question> findAfterCategoryAndTitleCursor(Long categoryId, String title, Long id, Pageable pageable);
+
+    /**
+     * ID 목록으로 질문 조회 (순서 보장하지 않음)
+     * @param ids 질문 ID 목록
+     * @return 질문 목록
+     */
+    List<Question> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 검색 색인 구성을 위해 ID 이후의 질문 텍스트를 ID 오름차순 조회
+     * @param afterId 이전 배치의 마지막 질문 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 질문 텍스트 목록
+     */
+    @Query("SELECT q.id AS id, q.title AS title, q.content AS content, q.defaultAnswer AS defaultAnswer " +
+            "FROM Question q WHERE q.id > :afterId ORDER BY q.id ASC")
+    List<QuestionText> findTextsAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * 질문의 저장된 LGTM 수 조회 (엔티티 로딩 없이 존재 여부 확인 겸용)
+     * @param id 질문 ID
+     * @return LGTM 수 Optional 객체
+     */
+    @Query("SELECT q.lgtmCount FROM Question q WHERE q.id = :id")
+    Optional<Integer> findLgtmCountById(Long id);
+
+    /**
+     * 질문 상세 응답의 변경 버전 조회 (조건부 GET 의 ETag 계산용, 기본 키 조회)
+     * @param id 질문 ID
+     * @return 버전 Optional 객체 (질문이 없으면 빈 값)
+     */
+    @Query("SELECT q.contentVersion FROM Question q WHERE q.id = :id")
+    Optional<Long> findContentVersionById(Long id);
+
+    /**
+     * 질문 삭제 표시 (이후 조회에서 제외, 연관 행은 별도로 정리)
+     * JPQL 일괄 변경이므로 Question 2차 캐시 영역이 함께 무효화됨
+     * @param id 질문 ID
+     * @param deletedAt 삭제 요청 시각
+     * @return 변경된 행 수 (0 이면 없거나 이미 삭제 표시됨)
+     */
+    @Modifying
+    @Query("UPDATE Question q SET q.deletedAt = :deletedAt WHERE q.id = :id AND q.deletedAt IS NULL")
+    int markDeleted(Long id, LocalDateTime deletedAt);
+
+    /**
+     * 삭제 표시되었지만 아직 정리되지 않은 질문 ID 조회 (중단된 정리 재개용)
+     * @return 질문 ID 목록
+     */
+    @Query(value = "SELECT id FROM questions WHERE deleted_at IS NOT NULL ORDER BY id", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    /**
+     * 질문과 키워드의 연결 행 삭제
+     * @param questionId 질문 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_keywords"))
+    @Query(value = "DELETE FROM question_keywords WHERE question_id = :questionId", nativeQuery = true)
+    int deleteKeywordLinks(Long questionId);
+
+    /**
+     * 연관 행 정리가 끝난 질문 행 삭제 (삭제 표시된 질문만)
+     * @param questionId 질문 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "questions"))
+    @Query(value = "DELETE FROM questions WHERE id = :questionId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deletePurged(Long questionId);
+
+    /**
+     * 검색 색인 대상 텍스트 projection
+     */
+    interface QuestionText {
+        Long getId();
+
+        String getTitle();
+
+        String getContent();
+
+        String getDefaultAnswer();
+    }
 }
\ No newline at end of file
@@ -1,19 +1,36 @@
 package com.invy.backend.repository;
 
+import com.invy.backend.dto.UserReactionDto;
 import com.invy.backend.entity.Answer;
 import com.invy.backend.entity.Question;
 import com.invy.backend.entity.Reaction;
 import com.invy.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 반응(Reaction) 엔티티에 접근하기 위한 repository 인터페이스
  * - 사용자의 질문/답변에 대한 반응 조회
  * - 질문/답변에 대한 반응 수 계산
  * - 사용자의 특정 질문/답변에 대한 반응 존재 여부 확인
+ * - 질문 상세 화면 및 답변 페이지의 사용자 반응 일괄 조회
+ * - 사용자가 LGTM 한 질문/답변 커서 기반 조회 (반응일 최신순, 엔티티 로딩 없음)
+ * - LGTM 토글용 조건부 추가/삭제
+ * - 질문/답변 삭제, 회원 탈퇴 시 반응 일괄 삭제 (ID 청크 단위)
+ *
+ * 네이티브 변경 쿼리에는 대상 테이블(query space)을 지정하여, Hibernate 가 2차 캐시 전체를 비우지 않도록 함
  */
 @Repository
 public interface ReactionRepository extends JpaRepository<Reaction, Long> {
@@ -63,4 +80,179 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
      * @return 반응 존재 여부 (true/false)
      */
     boolean existsByUserAndAnswer(User user, Answer answer);
-}
\ No newline at end of file
+
+    /**
+     * 사용자가 특정 질문 및 그 질문의 답변들에 남긴 반응 대상을 한 번에 조회
+     * 질문 상세 화면에서 질문 LGTM 여부와 LGTM 한 답변 ID 목록을 함께 판별하기 위해 사용
+     * @param userId 사용자 ID
+     * @param questionId 질문 ID
+     * @return 반응 대상 목록 (질문 반응이면 questionId, 답변 반응이면 answerId 가 채워짐)
+     */
+    @Query("SELECT r.question.id AS questionId, a.id AS answerId FROM Reaction r LEFT JOIN r.answer a " +
+            "WHERE r.user.id = :userId AND (r.question.id = :questionId OR a.question.id = :questionId)")
+    List<ReactionTarget> findReactionTargetsInQuestion(Long userId, Long questionId);
+
+    /**
+     * 주어진 답변 중 사용자가 LGTM 한 답변 ID 조회 (답변 페이지 단위)
+     * @param userId 사용자 ID
+     * @param answerIds 답변 ID 목록
+     * @return LGTM 한 답변 ID 집합
+     */
+    @Query("SELECT r.answer.id FROM Reaction r WHERE r.user.id = :userId AND r.answer.id IN :answerIds")
+    Set<Long> findReactedAnswerIds(Long userId, Collection<Long> answerIds);
+
+    /**
+     * 사용자가 LGTM 한 질문/답변을 최신순으로 첫 페이지 조회
+     * (user_id, created_at, id) 인덱스를 역순으로 탐색하고, 대상 질문은 ID 와 제목만 조회
+     * 답변 반응은 답변이 달린 질문을 대상 질문으로 사용
+     * @param userId 사용자 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 반응 목록
+     */
+    @Query("SELECT new com.invy.backend.dto.UserReactionDto(r.id, COALESCE(q.id, aq.id), COALESCE(q.title, aq.title), " +
+            "a.id, r.createdAt) " +
+            "FROM Reaction r LEFT JOIN r.question q LEFT JOIN r.answer a LEFT JOIN a.question aq " +
+            "WHERE r.user.id = :userId AND COALESCE(q.id, aq.id) IS NOT NULL " +
+            "AND COALESCE(q.deletedAt, aq.deletedAt) IS NULL " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<UserReactionDto> findFirstByUserCursor(Long userId, Pageable pageable);
+
+    /**
+     * 사용자가 LGTM 한 질문/답변을 최신순으로 커서 이후 페이지 조회
+     * @param userId 사용자 ID
+     * @param createdAt 커서 반응일
+     * @param id 커서 ID
+     * @param pageable 조회 개수 (offset 0)
+     * @return 반응 목록
+     */
+    @Query("SELECT new com.invy.backend.dto.UserReactionDto(r.id, COALESCE(q.id, aq.id), COALESCE(q.title, aq.title), " +
+            "a.id, r.createdAt) " +
+            "FROM Reaction r LEFT JOIN r.question q LEFT JOIN r.answer a LEFT JOIN a.question aq " +
+            "WHERE r.user.id = :userId AND COALESCE(q.id, aq.id) IS NOT NULL " +
+            "AND COALESCE(q.deletedAt, aq.deletedAt) IS NULL " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<UserReactionDto> findAfterByUserCursor(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 사용자의 특정 질문 반응 삭제
+     * @param userId 사용자 ID
+     * @param questionId 질문 ID
+     * @return 삭제된 행 수 (0 이면 반응이 없었음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reactions"))
+    @Query(value = "DELETE FROM reactions WHERE user_id = :userId AND question_id = :questionId", nativeQuery = true)
+    int deleteQuestionReaction(Long userId, Long questionId);
+
+    /**
+     * 사용자의 특정 질문 반응 추가 (이미 있으면 무시)
+     * (user_id, question_id) 유니크 키로 중복 생성 방지
+     * @param userId 사용자 ID
+     * @param questionId 질문 ID
+     * @return 추가된 행 수 (0 이면 이미 존재)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reactions"))
+    @Query(value = "INSERT IGNORE INTO reactions (user_id, question_id, created_at, updated_at) " +
+            "VALUES (:userId, :questionId, NOW(), NOW())", nativeQuery = true)
+    int insertQuestionReaction(Long userId, Long questionId);
+
+    /**
+     * 사용자의 특정 답변 반응 삭제
+     * @param userId 사용자 ID
+     * @param answerId 답변 ID
+     * @return 삭제된 행 수 (0 이면 반응이 없었음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reactions"))
+    @Query(value = "DELETE FROM reactions WHERE user_id = :userId AND answer_id = :answerId", nativeQuery = true)
+    int deleteAnswerReaction(Long userId, Long answerId);
+
+    /**
+     * 사용자의 특정 답변 반응 추가 (이미 있으면 무시)
+     * (user_id, answer_id) 유니크 키로 중복 생성 방지
+     * @param userId 사용자 ID
+     * @param answerId 답변 ID
+     * @return 추가된 행 수 (0 이면 이미 존재)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reactions"))
+    @Query(value = "INSERT IGNORE INTO reactions (user_id, answer_id, created_at, updated_at) " +
+            "VALUES (:userId, :answerId, NOW(), NOW())", nativeQuery = true)
+    int insertAnswerReaction(Long userId, Long answerId);
+
+    /**
+     * 질문에 직접 남긴 반응 ID 를 오름차순으로 최대 limit 개 조회 (삭제 청크 구성용)
+     * @param questionId 질문 ID
+     * @param limit 최대 개수
+     * @return 반응 ID 목록
+     */
+    @Query(value = "SELECT id FROM reactions WHERE question_id = :questionId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByQuestionId(Long questionId, int limit);
+
+    /**
+     * 답변들에 남긴 반응 ID 를 오름차순으로 최대 limit 개 조회 (삭제 청크 구성용)
+     * @param answerIds 답변 ID 목록
+     * @param limit 최대 개수
+     * @return 반응 ID 목록
+     */
+    @Query(value = "SELECT id FROM reactions WHERE answer_id IN (:answerIds) ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByAnswerIdIn(Collection<Long> answerIds, int limit);
+
+    /**
+     * ID 목록으로 반응 일괄 삭제 (엔티티 로딩 없음)
+     * @param ids 반응 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reactions"))
+    @Query(value = "DELETE FROM reactions WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자의 반응 ID 를 오름차순으로 최대 limit 개 조회 (탈퇴 정리 청크 구성용)
+     * @param userId 사용자 ID
+     * @param limit 최대 개수
+     * @return 반응 ID 목록
+     */
+    @Query(value = "SELECT id FROM reactions WHERE user_id = :userId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByUserId(Long userId, int limit);
+
+    /**
+     * 아직 남아 있는 반응 행을 잠그고 대상과 함께 조회 (LGTM 수 보정 대상 확정용)
+     * 잠금 조회는 최신 커밋 상태를 읽으므로 그 사이 다른 트랜잭션이 삭제한 행은 포함되지 않음
+     * @param ids 반응 ID 목록
+     * @return 잠근 반응 목록
+     */
+    @Query(value = "SELECT id AS id, question_id AS questionId, answer_id AS answerId FROM reactions " +
+            "WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<ReactionRow> lockRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 사용자의 반응 수 조회 (탈퇴 정리 진행 상황용)
+     * @param userId 사용자 ID
+     * @return 반응 수
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 반응 대상 조회 결과 projection
+     */
+    interface ReactionTarget {
+        Long getQuestionId();
+
+        Long getAnswerId();
+    }
+
+    /**
+     * 반응 행 projection (ID 와 대상)
+     */
+    interface ReactionRow {
+        Long getId();
+
+        Long getQuestionId();
+
+        Long getAnswerId();
+    }
+}
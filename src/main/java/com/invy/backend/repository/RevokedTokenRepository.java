@@ -0,0 +1,59 @@
+package com.invy.backend.repository;
+
+import com.invy.backend.entity.RevokedToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기 토큰(RevokedToken) 엔티티에 접근하기 위한 repository 인터페이스
+ * - 아직 만료되지 않은 폐기 토큰 조회
+ * - 특정 시각 이후 폐기된 토큰 조회 (인스턴스 간 동기화)
+ * - 중복 없는 폐기 등록
+ * - 만료된 폐기 토큰 정리
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 조회
+     * @param now 현재 시각
+     * @return 폐기 토큰 목록
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 특정 시각 이후 폐기된 토큰 조회
+     * @param since 기준 시각
+     * @return 폐기 토큰 목록
+     */
+    List<RevokedToken> findByCreatedAtAfter(LocalDateTime since);
+
+    /**
+     * 토큰 폐기 등록 (이미 폐기된 토큰이면 무시)
+     * @param jti 토큰 ID
+     * @param expiresAt 토큰 만료 시각
+     * @return 추가된 행 수 (0 이면 이미 폐기됨)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_tokens"))
+    @Query(value = "INSERT IGNORE INTO revoked_tokens (jti, expires_at, created_at) VALUES (:jti, :expiresAt, NOW())",
+            nativeQuery = true)
+    int insertIgnore(String jti, LocalDateTime expiresAt);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     * @param now 현재 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
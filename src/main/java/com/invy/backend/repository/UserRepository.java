@@ -1,9 +1,15 @@
 package com.invy.backend.repository;
 
 import com.invy.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +17,8 @@ import java.util.Optional;
  * - 이메일 기반 사용자 조회
  * - 소셜 로그인 제공자 및 ID 기반 사용자 조회
  * - 이메일 존재 여부 확인
+ * - 사용자별 응답 상태 버전 조회
+ * - 탈퇴 처리 대기 사용자 조회 및 정리 완료 후 삭제
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -36,4 +44,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부 (true/false)
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 응답 상태의 변경 버전 조회 (조건부 GET 의 ETag 계산용, 기본 키 조회)
+     * @param id 사용자 ID
+     * @return 버전 Optional 객체
+     */
+    @Query("SELECT u.activityVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findActivityVersionById(Long id);
+
+    /**
+     * 탈퇴 요청되었지만 아직 정리되지 않은 사용자 ID 조회 (중단된 정리 재개용)
+     * @return 사용자 ID 목록
+     */
+    @Query(value = "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY id", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    /**
+     * 연관 데이터 정리가 끝난 탈퇴 사용자 행 삭제 (탈퇴 요청된 사용자만)
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "DELETE FROM users WHERE id = :userId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deletePurged(Long userId);
+}
@@ -0,0 +1,234 @@
+package com.invy.backend.search;
+
+import com.invy.backend.dto.KeywordSuggestionDto;
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키워드 자동완성을 위한 인메모리 정렬 사전
+ * - 정규화(소문자)된 키워드 이름의 정렬 배열에서 이진 탐색으로 접두어 범위를 찾음
+ * - 접두어 일치가 부족하면 이름 중간에 포함된 키워드(infix)로 보충
+ *   infix 후보는 스냅샷과 함께 만든 1~2 글자 n-gram 색인에서 가장 짧은 후보 목록만 확인 (전체 스캔 없음)
+ * - 각 키워드를 사용하는 질문 수로 순위를 매김
+ * - 읽기 경로에서는 DB 를 조회하지 않음
+ *
+ * 키워드 추가는 드물기 때문에 정렬 배열은 copy-on-write 로 교체하고,
+ * 사용 질문 수는 키워드별 카운터로 즉시 갱신
+ * 정렬 도중 카운터가 바뀌어도 비교 결과가 일관되도록 후보마다 사용 질문 수를 먼저 복사한 뒤 정렬
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSuggestIndex {
+
+    private static final Comparator<Ranked> BY_RANK = Comparator
+            .comparingInt(Ranked::questionCount).reversed()
+            .thenComparing(ranked -> ranked.entry().normalizedName);
+
+    private static final int MAX_GRAM_LENGTH = 2;
+
+    private final KeywordRepository keywordRepository;
+
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+
+    // 정규화된 이름 순으로 정렬된 스냅샷과 n-gram 색인 (읽기 전용)
+    private volatile Snapshot snapshot = new Snapshot(new Entry[0], Map.of());
+
+    /**
+     * 애플리케이션 시작 시 DB 의 키워드와 사용 질문 수로 사전 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (KeywordRepository.KeywordUsage usage : keywordRepository.findAllWithQuestionCount()) {
+            Entry entry = entriesById.computeIfAbsent(usage.getId(), id -> new Entry(id, usage.getName()));
+            entry.questionCount.set((int) usage.getQuestionCount());
+        }
+        refreshSnapshot();
+        log.info("Keyword suggest index built: {} keywords", entriesById.size());
+    }
+
+    /**
+     * 질문 변경 이벤트로 키워드 추가 및 사용 질문 수 반영 (트랜잭션 커밋 이후)
+     * @param event 질문 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        boolean added = false;
+        for (Map.Entry<Long, String> keyword : event.getKeywords().entrySet()) {
+            if (!entriesById.containsKey(keyword.getKey())) {
+                entriesById.putIfAbsent(keyword.getKey(), new Entry(keyword.getKey(), keyword.getValue()));
+                added = true;
+            }
+            if (!event.getPreviousKeywords().containsKey(keyword.getKey())) {
+                entriesById.get(keyword.getKey()).questionCount.incrementAndGet();
+            }
+        }
+        for (Long previousId : event.getPreviousKeywords().keySet()) {
+            Entry entry = entriesById.get(previousId);
+            if (entry != null && !event.getKeywords().containsKey(previousId)) {
+                entry.questionCount.updateAndGet(count -> Math.max(0, count - 1));
+            }
+        }
+
+        if (added) {
+            refreshSnapshot();
+        }
+    }
+
+    /**
+     * 검색어로 시작하는 키워드를 우선으로, 검색어를 포함하는 키워드로 보충하여 조회
+     * 각 그룹 내에서는 사용 질문 수 내림차순, 이름 오름차순
+     * @param query 검색어
+     * @param limit 최대 개수
+     * @return 추천 키워드 목록
+     */
+    public List<KeywordSuggestionDto> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        Entry[] entries = current.sorted();
+        int from = lowerBound(entries, normalized);
+        int to = from;
+        while (to < entries.length && entries[to].normalizedName.startsWith(normalized)) {
+            to++;
+        }
+
+        List<Ranked> prefixMatches = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            prefixMatches.add(Ranked.of(entries[i]));
+        }
+        prefixMatches.sort(BY_RANK);
+
+        List<Ranked> results = new ArrayList<>(prefixMatches.subList(0, Math.min(limit, prefixMatches.size())));
+        if (results.size() < limit) {
+            Set<Long> seen = new HashSet<>();
+            results.forEach(ranked -> seen.add(ranked.entry().id));
+
+            List<Ranked> infixMatches = new ArrayList<>();
+            for (int position : infixCandidates(current, normalized)) {
+                Entry entry = entries[position];
+                if (!seen.contains(entry.id) && entry.normalizedName.contains(normalized)) {
+                    infixMatches.add(Ranked.of(entry));
+                }
+            }
+            infixMatches.sort(BY_RANK);
+            results.addAll(infixMatches.subList(0, Math.min(limit - results.size(), infixMatches.size())));
+        }
+
+        return results.stream()
+                .map(ranked -> new KeywordSuggestionDto(ranked.entry().id, ranked.entry().name, ranked.questionCount()))
+                .toList();
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 항목 위치 (검색어의 n-gram 중 후보가 가장 적은 목록)
+     */
+    private static int[] infixCandidates(Snapshot current, String normalized) {
+        int gramLength = Math.min(MAX_GRAM_LENGTH, normalized.length());
+        int[] candidates = null;
+        for (int i = 0; i + gramLength <= normalized.length(); i++) {
+            int[] positions = current.grams().get(normalized.substring(i, i + gramLength));
+            if (positions == null) {
+                return new int[0];
+            }
+            if (candidates == null || positions.length < candidates.length) {
+                candidates = positions;
+            }
+        }
+        return candidates != null ? candidates : new int[0];
+    }
+
+    private synchronized void refreshSnapshot() {
+        Entry[] next = entriesById.values().toArray(new Entry[0]);
+        Arrays.sort(next, Comparator.comparing((Entry entry) -> entry.normalizedName).thenComparing(entry -> entry.id));
+
+        Map<String, List<Integer>> positionsByGram = new HashMap<>();
+        for (int position = 0; position < next.length; position++) {
+            String name = next[position].normalizedName;
+            Set<String> grams = new HashSet<>();
+            for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+                for (int i = 0; i + length <= name.length(); i++) {
+                    grams.add(name.substring(i, i + length));
+                }
+            }
+            for (String gram : grams) {
+                positionsByGram.computeIfAbsent(gram, key -> new ArrayList<>()).add(position);
+            }
+        }
+        Map<String, int[]> grams = new HashMap<>();
+        positionsByGram.forEach((gram, positions) ->
+                grams.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+
+        snapshot = new Snapshot(next, grams);
+    }
+
+    private static int lowerBound(Entry[] entries, String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].normalizedName.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정렬 배열과 n-gram -> 정렬 배열 위치 색인 (함께 교체)
+     */
+    private record Snapshot(Entry[] sorted, Map<String, int[]> grams) {
+    }
+
+    /**
+     * 정렬용 후보 (정렬 시점의 사용 질문 수를 고정)
+     */
+    private record Ranked(Entry entry, int questionCount) {
+        private static Ranked of(Entry entry) {
+            return new Ranked(entry, entry.questionCount.get());
+        }
+    }
+
+    /**
+     * 사전 항목 (키워드 ID, 이름, 사용 질문 수)
+     */
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final String normalizedName;
+        private final AtomicInteger questionCount = new AtomicInteger();
+
+        private Entry(Long id, String name) {
+            this.id = id;
+            this.name = name;
+            this.normalizedName = normalize(name);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.invy.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * - 영문/숫자는 단어 단위 토큰으로 분리 (소문자 정규화)
+ * - 한글/한자/가나는 형태소 분석 없이 부분 일치가 가능하도록 2-gram 으로 분리
+ * - 색인(tokenize)은 2-gram 과 함께 글자마다 1-gram 도 만들어 한 글자 검색어도 단어 중간에서 찾을 수 있음
+ * - 검색어(tokenizeQuery)는 두 글자 이상이면 2-gram 만, 한 글자이면 1-gram 을 사용
+ *   (긴 검색어의 관련도가 흔한 한 글자 토큰에 희석되지 않도록 함)
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인할 문자열을 토큰 목록으로 분리 (중복 포함)
+     * @param text 원문 (null 가능)
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 토큰 목록으로 분리 (중복 포함)
+     * @param query 검색어 (null 가능)
+     * @return 토큰 목록
+     */
+    public static List<String> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+
+            boolean cjk = isCjk(c);
+            int end = start + 1;
+            while (end < length) {
+                char next = normalized.charAt(end);
+                if (!Character.isLetterOrDigit(next) || isCjk(next) != cjk) {
+                    break;
+                }
+                end++;
+            }
+
+            if (cjk) {
+                addGrams(normalized, start, end, unigrams, tokens);
+            } else {
+                tokens.add(normalized.substring(start, end));
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static void addGrams(String text, int start, int end, boolean unigrams, List<String> tokens) {
+        if (unigrams || end - start < GRAM_SIZE) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(text.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
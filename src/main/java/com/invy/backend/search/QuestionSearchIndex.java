@@ -0,0 +1,261 @@
+package com.invy.backend.search;
+
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문 제목/내용/기본 답변에 대한 인메모리 역색인
+ * - NGramTokenizer 로 토큰화하여 한글 부분 일치 검색 지원 (한 글자 검색어 포함)
+ * - BM25 로 관련도 점수 계산 (제목 토큰은 가중치 부여)
+ * - 애플리케이션 시작 시 DB 로부터 전체 재구성
+ * - 관리자 질문 등록/수정/삭제 커밋 후 증분 갱신
+ *   재구성 도중 반영된 변경은 기록해 두고, 재구성이 먼저 읽은 이전 내용으로 덮어쓰거나 삭제된 질문을 되살리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final QuestionRepository questionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> (질문 ID -> 토큰 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 질문 ID -> (토큰 -> 토큰 빈도), 수정/삭제 시 기존 posting 제거에 사용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    // 질문 ID -> 문서 길이 (토큰 수)
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+
+    private long totalLength;
+
+    // 재구성 중 변경 이벤트가 반영된 질문 ID (재구성이 읽은 내용보다 최신), 재구성 중이 아니면 null
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * 애플리케이션 시작 시 DB 의 모든 질문으로 색인 구성
+     * ID 기준 keyset 방식으로 나누어 읽어 메모리 사용량을 제한
+     * 재구성 도중 변경 이벤트가 반영된 질문은 이벤트의 내용을 유지 (읽은 배치가 커밋 이전 내용일 수 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        int count = 0;
+        setRebuilding(true);
+        try {
+            while (true) {
+                List<QuestionRepository.QuestionText> batch =
+                        questionRepository.findTextsAfterId(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (QuestionRepository.QuestionText question : batch) {
+                    Document document = tokenize(question.getTitle(), question.getContent(), question.getDefaultAnswer());
+                    lock.writeLock().lock();
+                    try {
+                        if (!changedDuringRebuild.contains(question.getId())) {
+                            put(question.getId(), document);
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    afterId = question.getId();
+                }
+                count += batch.size();
+            }
+        } finally {
+            setRebuilding(false);
+        }
+        log.info("Question search index built: {} documents in {} ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 질문 변경 이벤트를 색인에 반영 (트랜잭션 커밋 이후)
+     * @param event 질문 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (event.getType() == QuestionChangedEvent.Type.DELETED) {
+            remove(event.getQuestionId());
+        } else {
+            index(event.getQuestionId(), event.getTitle(), event.getContent(), event.getDefaultAnswer());
+        }
+    }
+
+    /**
+     * 질문을 색인에 추가 (이미 있으면 교체)
+     * @param questionId 질문 ID
+     * @param title 제목
+     * @param content 내용
+     * @param defaultAnswer 기본 답변
+     */
+    public void index(Long questionId, String title, String content, String defaultAnswer) {
+        Document document = tokenize(title, content, defaultAnswer);
+        lock.writeLock().lock();
+        try {
+            markChanged(questionId);
+            put(questionId, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질문을 색인에서 제거
+     * @param questionId 질문 ID
+     */
+    public void remove(Long questionId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(questionId);
+            removeInternal(questionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련된 질문 ID 를 BM25 점수 내림차순으로 조회
+     * 점수가 같으면 ID 오름차순
+     * @param query 검색어
+     * @return 관련도 순 질문 ID 목록
+     */
+    public List<Long> search(String query) {
+        Set<String> queryTokens = new LinkedHashSet<>(NGramTokenizer.tokenizeQuery(query));
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String token : queryTokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documentLengths.get(entry.getKey());
+                    double norm = tf + K1 * (1 - B + B * length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * 제목(가중치 부여), 내용, 기본 답변을 토큰화 (잠금 밖에서 실행)
+     */
+    private Document tokenize(String title, String content, String defaultAnswer) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : NGramTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_BOOST, Integer::sum);
+            length += TITLE_BOOST;
+        }
+        for (String text : new String[]{content, defaultAnswer}) {
+            for (String token : NGramTokenizer.tokenize(text)) {
+                termFrequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+        return new Document(termFrequencies, length);
+    }
+
+    /**
+     * 문서를 색인에 추가 (이미 있으면 교체, 쓰기 잠금 안에서 호출)
+     */
+    private void put(Long questionId, Document document) {
+        removeInternal(questionId);
+        for (Map.Entry<String, Integer> entry : document.termFrequencies().entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(questionId, entry.getValue());
+        }
+        documents.put(questionId, document.termFrequencies());
+        documentLengths.put(questionId, document.length());
+        totalLength += document.length();
+    }
+
+    /**
+     * 재구성 중이면 변경된 질문으로 기록 (쓰기 잠금 안에서 호출)
+     */
+    private void markChanged(Long questionId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(questionId);
+        }
+    }
+
+    private void setRebuilding(boolean rebuilding) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = rebuilding ? new HashSet<>() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long questionId) {
+        Map<String, Integer> previous = documents.remove(questionId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.keySet()) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(questionId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        Integer length = documentLengths.remove(questionId);
+        if (length != null) {
+            totalLength -= length;
+        }
+    }
+
+    /**
+     * 토큰화된 문서 (토큰 -> 빈도, 문서 길이)
+     */
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+    }
+}
@@ -2,6 +2,7 @@ package com.invy.backend.security;
 
 import com.invy.backend.entity.User;
 import com.invy.backend.repository.UserRepository;
+import com.invy.backend.service.ContentVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -13,6 +14,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -26,6 +28,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final ContentVersionService contentVersionService;
 
     /**
      * OAuth2 인증 후 사용자 정보 로드
@@ -73,6 +76,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         if (userOptional.isPresent()) {
             user = userOptional.get();
 
+            // 탈퇴 처리 중인 사용자는 정리가 끝나 행이 삭제될 때까지 다시 로그인/가입할 수 없음
+            if (user.isDeleted()) {
+                throw new OAuth2AuthenticationException("This account is being deleted.");
+            }
+
             // 사용자가 다른 소셜 계정으로 가입한 경우 예외 발생
             if (!user.getProvider().equals(
                     User.AuthProvider.valueOf(oAuth2UserRequest.getClientRegistration().getRegistrationId().toUpperCase()))) {
@@ -110,13 +118,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     /**
      * 기존 사용자 정보 업데이트
+     * 이름이나 프로필 이미지가 바뀌면 실명 답변이 표시되는 질문의 상세 버전을 증가 (조건부 GET)
      * @param existingUser 기존 사용자 엔티티
      * @param oAuth2UserInfo OAuth2 사용자 정보
      * @return User 업데이트된 사용자 엔티티
      */
     private User updateExistingUser(User existingUser, OAuth2UserInfo oAuth2UserInfo) {
+        boolean profileChanged = !Objects.equals(existingUser.getName(), oAuth2UserInfo.getName())
+                || !Objects.equals(existingUser.getProfileImage(), oAuth2UserInfo.getImageUrl());
         existingUser.setName(oAuth2UserInfo.getName());
         existingUser.setProfileImage(oAuth2UserInfo.getImageUrl());
-        return userRepository.save(existingUser);
+        User saved = userRepository.save(existingUser);
+        if (profileChanged) {
+            contentVersionService.touchQuestionsOfAuthor(saved.getId());
+        }
+        return saved;
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import java.io.IOException;
 /**
  * HTTP 요청에서 JWT 토큰을 추출하고 유효성을 검증하는 필터
  * 유효한 토큰이 있으면 SecurityContext에 인증 정보 설정
+ * 토큰 클레임만으로 UserPrincipal 을 구성하므로 요청 인증에 DB 조회가 없음
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -33,9 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request);
+        Authentication auth = token != null ? jwtTokenProvider.getAuthentication(token) : null;
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
+        if (auth != null) {
             SecurityContextHolder.getContext().setAuthentication(auth);
             log.debug("Set Authentication to security context for '{}', uri: {}", auth.getName(), request.getRequestURI());
         } else {
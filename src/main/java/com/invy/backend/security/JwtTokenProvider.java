@@ -10,13 +10,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * JWT 토큰 생성, 검증 및 관련 유틸리티 기능을 제공하는 클래스
@@ -24,12 +29,22 @@ import java.util.Date;
  * - 토큰 유효성 검증
  * - 토큰에서 사용자 정보 추출
  * - HTTP 요청에서 토큰 추출
+ *
+ * 액세스 토큰에는 사용자 ID 와 권한이 클레임으로 포함되어,
+ * 요청 인증 시 DB 조회 없이 토큰 한 번의 파싱만으로 UserPrincipal 을 구성함
+ * 검증된 토큰은 VerifiedTokenCache 에 보관되어 재사용 시 파싱도 생략됨
+ * 모든 토큰에는 토큰 ID(jti)가 포함되며, 폐기된 토큰은 TokenRevocationList 로 거부됨
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    // 사용자 단위 폐기 항목 키 접두사 (탈퇴한 사용자의 모든 토큰 거부)
+    private static final String USER_REVOCATION_PREFIX = "user:";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -39,30 +54,46 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenRevocationList tokenRevocationList;
 
     private Key key;
 
+    private JwtParser jwtParser;
+
     /**
-     * 빈이 초기화될 때 secretKey를 기반으로 HMAC SHA 키를 생성
+     * 빈이 초기화될 때 secretKey를 기반으로 HMAC SHA 키와 공유 파서를 생성
+     * JwtParser 는 불변이며 스레드 안전하므로 모든 요청에서 재사용
      */
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
-     * 사용자 이메일을 기반으로 액세스 토큰 생성
-     * @param email 사용자 이메일
+     * 인증된 사용자 정보를 기반으로 액세스 토큰 생성
+     * 사용자 ID 와 권한을 클레임에 포함
+     * @param userPrincipal 인증된 사용자 정보
      * @return 생성된 JWT 액세스 토큰
      */
-    public String createAccessToken(String email) {
-        Claims claims = Jwts.claims().setSubject(email);
+    public String createAccessToken(UserPrincipal userPrincipal) {
+        String roles = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        Claims claims = Jwts.claims().setSubject(userPrincipal.getEmail());
+        claims.put(USER_ID_CLAIM, userPrincipal.getId());
+        claims.put(ROLE_CLAIM, roles);
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidity);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -81,6 +112,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -88,27 +120,95 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰으로부터 인증 정보 추출
+     * JWT 액세스 토큰으로부터 인증 정보 추출
+     * 캐시에 없으면 토큰을 한 번만 파싱/검증하고, 클레임으로 UserPrincipal 을 구성해 캐시 (DB 조회 없음)
+     * 캐시 적중 여부와 관계없이 토큰 및 사용자 단위 폐기 여부를 확인
+     * 캐시 미스(처음 보는 토큰)이면 사용자 단위 폐기를 DB 에서도 확인하여 다른 인스턴스의 탈퇴를 동기화 전에 반영
      * @param token JWT 토큰
-     * @return Spring Security 인증 객체
+     * @return Spring Security 인증 객체, 토큰이 유효하지 않거나 폐기되었거나 액세스 토큰이 아니면 null
      */
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUserEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        VerifiedTokenCache.CachedToken verified = verifiedTokenCache.get(token);
+        boolean cacheMiss = verified == null;
+        if (cacheMiss) {
+            verified = verify(token);
+            if (verified == null) {
+                return null;
+            }
+        }
+
+        if (tokenRevocationList.isRevoked(verified.tokenId())) {
+            log.debug("JWT token is revoked");
+            return null;
+        }
+
+        UserPrincipal userPrincipal = verified.principal();
+        String userRevocationId = USER_REVOCATION_PREFIX + userPrincipal.getId();
+        if (tokenRevocationList.isRevoked(userRevocationId)
+                || (cacheMiss && tokenRevocationList.isRevokedInStore(userRevocationId))) {
+            log.debug("JWT token belongs to a deleted user");
+            return null;
+        }
+
+        return new UsernamePasswordAuthenticationToken(userPrincipal, "", userPrincipal.getAuthorities());
     }
 
     /**
-     * 토큰에서 사용자 이메일 추출
+     * 액세스 토큰을 검증하고 클레임으로 구성한 사용자 정보를 캐시에 저장
      * @param token JWT 토큰
-     * @return 사용자 이메일
+     * @return 캐시 항목, 토큰이 유효하지 않거나 액세스 토큰이 아니면 null
      */
-    public String getUserEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    private VerifiedTokenCache.CachedToken verify(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String roles = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || !StringUtils.hasText(roles)) {
+            // 사용자 ID/권한 클레임이 없는 토큰(리프레시 토큰 등)은 요청 인증에 사용할 수 없음
+            log.debug("JWT token has no user claims");
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = Arrays.stream(roles.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        UserPrincipal userPrincipal = new UserPrincipal(userId.longValue(), claims.getSubject(), authorities);
+        return verifiedTokenCache.put(token, userPrincipal, claims.getId(), claims.getExpiration());
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃, 리프레시 토큰 재사용 방지)
+     * @param token JWT 토큰
+     * @return 이번 호출로 새로 폐기되었으면 true, 유효하지 않거나 토큰 ID가 없거나 이미 폐기된 토큰이면 false
+     */
+    public boolean revokeToken(String token) {
+        Claims claims = parseClaims(token);
+        return claims != null && revokeToken(claims);
+    }
+
+    /**
+     * 이미 검증한 토큰의 클레임으로 폐기 (토큰을 다시 파싱하지 않음)
+     * @param claims parseToken 으로 검증한 클레임
+     * @return 이번 호출로 새로 폐기되었으면 true, 토큰 ID가 없거나 이미 폐기된 토큰이면 false
+     */
+    public boolean revokeToken(Claims claims) {
+        if (claims.getId() == null) {
+            return false;
+        }
+        return tokenRevocationList.revoke(claims.getId(), claims.getExpiration());
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (회원 탈퇴)
+     * 이미 발급된 리프레시 토큰이 모두 만료될 때까지 해당 사용자 ID 의 액세스 토큰을 거부
+     * @param userId 사용자 ID
+     */
+    public void revokeUser(Long userId) {
+        Date expiration = new Date(System.currentTimeMillis() + refreshTokenValidity);
+        tokenRevocationList.revoke(USER_REVOCATION_PREFIX + userId, expiration);
     }
 
     /**
@@ -130,13 +230,27 @@ public class JwtTokenProvider {
      * @return 토큰 유효 여부
      */
     public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * JWT 토큰을 한 번 파싱/검증하고 클레임 반환 (같은 토큰의 여러 클레임을 사용할 때 재파싱 방지)
+     * @param token JWT 토큰
+     * @return 클레임, 유효하지 않으면 null
+     */
+    public Claims parseToken(String token) {
+        return parseClaims(token);
+    }
 
-            return !claims.getBody().getExpiration().before(new Date());
+    /**
+     * JWT 토큰의 서명과 만료 시간을 검증하고 클레임 추출
+     * @param token JWT 토큰
+     * @return 클레임, 유효하지 않으면 null
+     */
+    private Claims parseClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -148,6 +262,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 }
\ No newline at end of file
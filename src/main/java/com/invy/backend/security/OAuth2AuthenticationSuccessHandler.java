@@ -62,7 +62,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     protected String determineTargetUrl(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
-        String accessToken = tokenProvider.createAccessToken(userPrincipal.getEmail());
+        String accessToken = tokenProvider.createAccessToken(userPrincipal);
         String refreshToken = tokenProvider.createRefreshToken(userPrincipal.getEmail());
 
         return UriComponentsBuilder.fromUriString(redirectUri)
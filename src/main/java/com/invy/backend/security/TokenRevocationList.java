@@ -0,0 +1,164 @@
+package com.invy.backend.security;
+
+import com.invy.backend.entity.RevokedToken;
+import com.invy.backend.repository.RevokedTokenRepository;
+import com.invy.backend.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 JWT 토큰 목록
+ * - 폐기 정보는 revoked_tokens 테이블에 영속화되고, 메모리에는 아직 만료되지 않은 항목만 보관
+ * - 요청마다 블룸 필터로 먼저 확인하여 폐기되지 않은 대부분의 토큰은 해시 몇 번으로 통과
+ * - 블룸 필터가 양성일 때만 정확한 집합으로 확인하므로 오탐으로 인한 잘못된 거부는 없음
+ * - 다른 인스턴스에서 폐기된 토큰은 주기적 동기화로 반영하며, 만료된 항목은 이때 정리하고 필터를 재구성
+ *   폐기 시각(created_at)은 INSERT 시점에 기록되고 커밋은 그 이후이므로, 동기화는 직전 기준 시각보다 넉넉히 앞선 구간을
+ *   다시 조회하고 이미 알고 있는 항목은 건너뜀 (구간보다 늦게 커밋된 폐기만 놓칠 수 있음)
+ * - 사용자 단위 폐기(회원 탈퇴)는 처음 보는 토큰이면 DB 를 직접 확인하므로, 동기화를 기다리는 것은 이미 검증되어 캐시된 토큰뿐임
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final long syncOverlapMillis;
+
+    // jti -> 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    // 마지막 동기화 기준 시각 (이 시각 이후 폐기된 항목을 DB 에서 가져옴)
+    private LocalDateTime lastSyncedAt;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${app.jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${app.jwt.revocation.sync-overlap-ms:300000}") long syncOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 애플리케이션 시작 시 만료되지 않은 폐기 토큰을 모두 적재
+     * 요청을 받기 전에 적재되어야 하므로 빈 초기화 단계에서 수행
+     */
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        tokens.forEach(this::remember);
+        lastSyncedAt = now;
+        log.info("Loaded {} revoked tokens", tokens.size());
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     * @param tokenId 토큰 ID (jti 클레임)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        return filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * DB 의 폐기 목록에서 직접 확인 (다른 인스턴스가 폐기했지만 아직 동기화되지 않은 항목 포함)
+     * 폐기된 항목이면 메모리에도 반영하여 이후에는 DB 를 조회하지 않음
+     * @param tokenId 폐기 항목 키 (jti 또는 사용자 단위 키)
+     * @return 폐기되었으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean isRevokedInStore(String tokenId) {
+        if (isRevoked(tokenId)) {
+            return true;
+        }
+        return revokedTokenRepository.findById(tokenId)
+                .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(token -> {
+                    remember(token);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 토큰 폐기
+     * 같은 토큰이 동시에 폐기되더라도 DB 기본 키로 한 번만 성공함
+     * @param tokenId 토큰 ID (jti 클레임)
+     * @param expiration 토큰 만료 시각
+     * @return 이번 호출로 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    @Transactional
+    public boolean revoke(String tokenId, Date expiration) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        boolean inserted = revokedTokenRepository.insertIgnore(tokenId, expiresAt) > 0;
+        // 트랜잭션 커밋 전이라도 즉시 거부되도록 메모리에 먼저 반영 (롤백되어도 과잉 차단일 뿐임)
+        remember(tokenId, expiration.getTime());
+        return inserted;
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기된 토큰을 반영하고 만료된 항목을 정리
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval-ms:5000}")
+    @Transactional
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // 폐기 시각보다 늦게 커밋된 건(긴 트랜잭션, 인스턴스 간 시계 차이)도 반영되도록 넉넉한 구간을 다시 조회
+        LocalDateTime since = lastSyncedAt.minus(syncOverlapMillis, ChronoUnit.MILLIS);
+        for (RevokedToken token : revokedTokenRepository.findByCreatedAtAfter(since)) {
+            // 이전 동기화에서 이미 반영한 항목은 건너뜀
+            if (!revoked.containsKey(token.getJti())) {
+                remember(token);
+            }
+        }
+        lastSyncedAt = now;
+
+        long nowMillis = System.currentTimeMillis();
+        boolean removed = revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        if (removed || revoked.size() > expectedInsertions) {
+            rebuildFilter();
+        }
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private void remember(RevokedToken token) {
+        remember(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void remember(String tokenId, long expiresAtMillis) {
+        revoked.put(tokenId, expiresAtMillis);
+        filter.put(tokenId);
+    }
+
+    /**
+     * 현재 폐기 목록으로 블룸 필터 재구성
+     * 블룸 필터는 삭제를 지원하지 않으므로 만료된 항목을 비우거나 크기를 늘릴 때 새로 만듦
+     * 새 필터를 채우는 동안 추가된 항목도 반영되도록 교체 후 한 번 더 채움
+     */
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+    }
+}
@@ -0,0 +1,107 @@
+package com.invy.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 정보를 보관하는 캐시
+ * - 같은 토큰이 반복 사용될 때 HMAC 검증과 클레임 JSON 파싱을 생략
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+ * - 각 항목은 토큰 만료 시각(exp)에 만료되고, 최대 항목 수를 넘으면 크기 기반으로 제거
+ * - 적중/미스 통계는 cache.gets 등의 메트릭(cache=jwt.verified-tokens)으로 노출
+ * - 캐시 적중 시에도 폐기 여부를 확인할 수 있도록 토큰 ID(jti)를 함께 보관
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<String, CachedToken> cache;
+
+    public VerifiedTokenCache(@Value("${app.jwt.token-cache.maximum-size:10000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 토큰 검증 결과 조회
+     * @param token JWT 액세스 토큰
+     * @return 캐시된 항목, 없거나 만료되었으면 null
+     */
+    public CachedToken get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증된 토큰의 인증 사용자 정보 저장
+     * @param token JWT 액세스 토큰
+     * @param principal 토큰 클레임으로 구성한 사용자 정보
+     * @param tokenId 토큰 ID (jti 클레임)
+     * @param expiration 토큰 만료 시각
+     * @return 저장된 항목
+     */
+    public CachedToken put(String token, UserPrincipal principal, String tokenId, Date expiration) {
+        CachedToken cachedToken = new CachedToken(principal, tokenId, expiration.getTime());
+        cache.put(digest(token), cachedToken);
+        return cachedToken;
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (캐시 키)
+     * @param token JWT 토큰
+     * @return Base64 인코딩된 다이제스트
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 캐시 항목 (사용자 정보, 토큰 ID, 토큰 만료 시각)
+     */
+    public record CachedToken(UserPrincipal principal, String tokenId, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료 시간을 토큰의 남은 유효 시간으로 설정
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.invy.backend.service;
+
+import com.invy.backend.dto.AccountDeletionDto;
+import com.invy.backend.entity.User;
+import com.invy.backend.exception.ResourceNotFoundException;
+import com.invy.backend.repository.AnswerRepository;
+import com.invy.backend.repository.BookmarkRepository;
+import com.invy.backend.repository.ReactionRepository;
+import com.invy.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 탈퇴 요청된 사용자의 데이터를 청크 단위로 정리하는 서비스
+ * - 정리 순서: 북마크 삭제 -> 반응 삭제 (LGTM 수 차감) -> 답변 익명화 -> 사용자 행 삭제
+ *   반응은 청크마다 행을 잠근 뒤 삭제하여 실제로 삭제한 행만 LGTM 수에서 차감
+ * - 각 청크는 ID 오름차순으로 최대 chunk-size 행을 짧은 별도 트랜잭션에서 처리 (엔티티 로딩 없음)
+ * - 답변은 질문 맥락 보존을 위해 삭제하지 않고 작성자 연결만 해제 (익명 답변으로 표시)
+ * - 중간에 중단되어도 사용자는 인증 불가 상태로 남고, 주기적 재개 작업이 이어서 정리
+ * - 같은 사용자를 동시에 정리하지 않음
+ */
+@Slf4j
+@Service
+public class AccountPurgeService {
+
+    private final UserRepository userRepository;
+    private final AnswerRepository answerRepository;
+    private final ReactionRepository reactionRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final ContentVersionService contentVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor purgeExecutor;
+    private final int chunkSize;
+
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    public AccountPurgeService(UserRepository userRepository,
+                               AnswerRepository answerRepository,
+                               ReactionRepository reactionRepository,
+                               BookmarkRepository bookmarkRepository,
+                               LgtmCountBuffer lgtmCountBuffer,
+                               ContentVersionService contentVersionService,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("accountPurgeExecutor") TaskExecutor purgeExecutor,
+                               @Value("${app.account-purge.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.answerRepository = answerRepository;
+        this.reactionRepository = reactionRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.lgtmCountBuffer = lgtmCountBuffer;
+        this.contentVersionService = contentVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeExecutor = purgeExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 탈퇴 요청된 사용자 정리 (호출 스레드에서 실행)
+     * @param userId 사용자 ID
+     * @return 정리를 수행했으면 true, 다른 스레드가 이미 정리 중이면 false
+     */
+    public boolean purge(Long userId) {
+        if (!inProgress.add(userId)) {
+            return false;
+        }
+        try {
+            long started = System.currentTimeMillis();
+
+            long bookmarks = 0;
+            List<Long> bookmarkIds;
+            while (!(bookmarkIds = bookmarkRepository.findIdsByUserId(userId, chunkSize)).isEmpty()) {
+                List<Long> chunk = bookmarkIds;
+                bookmarks += inTransaction(() -> bookmarkRepository.deleteByIdIn(chunk));
+            }
+
+            long reactions = 0;
+            List<Long> reactionIds;
+            while (!(reactionIds = reactionRepository.findIdsByUserId(userId, chunkSize)).isEmpty()) {
+                List<Long> chunk = reactionIds;
+                reactions += inTransaction(() -> deleteReactions(chunk));
+            }
+
+            long answers = 0;
+            List<Long> answerIds;
+            while (!(answerIds = answerRepository.findIdsByUserId(userId, chunkSize)).isEmpty()) {
+                List<Long> chunk = answerIds;
+                answers += inTransaction(() -> anonymizeAnswers(chunk));
+            }
+
+            inTransaction(() -> userRepository.deletePurged(userId));
+
+            log.info("Purged user {} in {} ms: {} bookmarks, {} reactions, {} answers anonymized",
+                    userId, System.currentTimeMillis() - started, bookmarks, reactions, answers);
+            return true;
+        } finally {
+            inProgress.remove(userId);
+        }
+    }
+
+    /**
+     * 탈퇴 요청된 사용자를 백그라운드에서 정리
+     * @param userId 사용자 ID
+     */
+    @Async("accountPurgeExecutor")
+    public void purgeAsync(Long userId) {
+        purgeOrLog(userId);
+    }
+
+    /**
+     * 중단되었거나 대기열에서 밀린 정리 작업 재개
+     * 정리는 전용 실행기에 넘겨 공유 스케줄러 스레드(LGTM 반영, 토큰 폐기 동기화 등)를 점유하지 않음
+     * 대기열이 가득 차 넘기지 못한 작업은 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.account-purge.resume-interval-ms:60000}",
+            initialDelayString = "${app.account-purge.resume-interval-ms:60000}")
+    public void resumePending() {
+        for (Long userId : userRepository.findDeletedIds()) {
+            purgeExecutor.execute(() -> purgeOrLog(userId));
+        }
+    }
+
+    /**
+     * 탈퇴 정리 진행 상황 조회
+     * 사용자 행이 이미 삭제되었으면 완료로 간주
+     * @param userId 사용자 ID
+     * @return AccountDeletionDto 진행 상황
+     */
+    @Transactional(readOnly = true)
+    public AccountDeletionDto getProgress(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return AccountDeletionDto.completed(userId);
+        }
+        if (!user.isDeleted()) {
+            throw new ResourceNotFoundException("탈퇴 요청되지 않은 사용자입니다: " + userId);
+        }
+        return new AccountDeletionDto(userId, AccountDeletionDto.Status.IN_PROGRESS, user.getDeletedAt(),
+                bookmarkRepository.countByUserId(userId),
+                reactionRepository.countByUserId(userId),
+                answerRepository.countByUserId(userId));
+    }
+
+    /**
+     * 반응 청크 삭제 후 대상별 LGTM 수 차감 (LGTM 차감분은 커밋 이후 버퍼에 반영)
+     * 청크 조회 이후 토글/관리자 삭제로 이미 지워진 행을 중복 차감하지 않도록,
+     * 이 트랜잭션에서 잠근 행만 삭제하고 그 행으로 차감분을 계산
+     * @param ids 반응 ID 목록
+     * @return 삭제된 행 수
+     */
+    private int deleteReactions(List<Long> ids) {
+        List<ReactionRepository.ReactionRow> rows = reactionRepository.lockRowsByIdIn(ids);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> questionDeltas = new HashMap<>();
+        Map<Long, Integer> answerDeltas = new HashMap<>();
+        for (ReactionRepository.ReactionRow row : rows) {
+            if (row.getQuestionId() != null) {
+                questionDeltas.merge(row.getQuestionId(), -1, Integer::sum);
+            } else if (row.getAnswerId() != null) {
+                answerDeltas.merge(row.getAnswerId(), -1, Integer::sum);
+            }
+        }
+
+        int deleted = reactionRepository.deleteByIdIn(rows.stream().map(ReactionRepository.ReactionRow::getId).toList());
+        questionDeltas.forEach(lgtmCountBuffer::addQuestionDelta);
+        answerDeltas.forEach(lgtmCountBuffer::addAnswerDelta);
+        return deleted;
+    }
+
+    /**
+     * 답변 청크 익명화 후 답변이 속한 질문의 상세 버전 증가 (작성자 표시가 바뀜)
+     * @param answerIds 답변 ID 목록
+     * @return 익명화된 행 수
+     */
+    private int anonymizeAnswers(List<Long> answerIds) {
+        int anonymized = answerRepository.anonymizeByIdIn(answerIds);
+        contentVersionService.touchQuestionsOfAnswers(answerIds);
+        return anonymized;
+    }
+
+    /**
+     * 정리 실행 (실패는 로그만 남기고 다음 재개 주기에 다시 시도)
+     */
+    private void purgeOrLog(Long userId) {
+        try {
+            purge(userId);
+        } catch (RuntimeException e) {
+            log.error("Failed to purge user {} (will retry)", userId, e);
+        }
+    }
+
+    private int inTransaction(Supplier<Integer> action) {
+        Integer result = transactionTemplate.execute(status -> action.get());
+        return result != null ? result : 0;
+    }
+}
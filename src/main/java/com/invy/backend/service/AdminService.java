@@ -4,32 +4,78 @@ import com.invy.backend.dto.QuestionDto;
 import com.invy.backend.entity.Category;
 import com.invy.backend.entity.Keyword;
 import com.invy.backend.entity.Question;
+import com.invy.backend.event.QuestionChangedEvent;
 import com.invy.backend.exception.ResourceNotFoundException;
 import com.invy.backend.repository.AnswerRepository;
 import com.invy.backend.repository.CategoryRepository;
 import com.invy.backend.repository.KeywordRepository;
 import com.invy.backend.repository.QuestionRepository;
-import lombok.RequiredArgsConstructor;
+import com.invy.backend.repository.ReactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 관리자 기능을 제공하는 서비스
- * - 질문 등록/수정/삭제
+ * - 질문 등록/수정/삭제 (삭제는 즉시 숨김 후 연관 행을 일괄 정리, 큰 질문은 백그라운드 정리)
  * - 답변 삭제
  */
 @Service
-@RequiredArgsConstructor
 public class AdminService {
 
+    private static final int REACTION_DELETE_CHUNK_SIZE = 1_000;
+
     private final QuestionRepository questionRepository;
     private final CategoryRepository categoryRepository;
     private final KeywordRepository keywordRepository;
+    private final KeywordInterningService keywordInterningService;
     private final AnswerRepository answerRepository;
+    private final ReactionRepository reactionRepository;
+    private final QuestionPurgeService questionPurgeService;
+    private final ContentVersionService contentVersionService;
+    private final CategoryService categoryService;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long asyncPurgeThreshold;
+
+    public AdminService(QuestionRepository questionRepository,
+                        CategoryRepository categoryRepository,
+                        KeywordRepository keywordRepository,
+                        KeywordInterningService keywordInterningService,
+                        AnswerRepository answerRepository,
+                        ReactionRepository reactionRepository,
+                        QuestionPurgeService questionPurgeService,
+                        ContentVersionService contentVersionService,
+                        CategoryService categoryService,
+                        LgtmCountBuffer lgtmCountBuffer,
+                        TransactionTemplate transactionTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${app.question-purge.async-threshold:5000}") long asyncPurgeThreshold) {
+        this.questionRepository = questionRepository;
+        this.categoryRepository = categoryRepository;
+        this.keywordRepository = keywordRepository;
+        this.keywordInterningService = keywordInterningService;
+        this.answerRepository = answerRepository;
+        this.reactionRepository = reactionRepository;
+        this.questionPurgeService = questionPurgeService;
+        this.contentVersionService = contentVersionService;
+        this.categoryService = categoryService;
+        this.lgtmCountBuffer = lgtmCountBuffer;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.asyncPurgeThreshold = asyncPurgeThreshold;
+    }
 
     /**
      * 질문 등록
@@ -47,18 +93,10 @@ public class AdminService {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리", categoryId));
 
-        // 키워드 처리 - 존재하면 조회, 없으면 생성
+        // 키워드 처리 - 이름을 ID 로 변환 (없는 키워드는 생성)
+        Map<Long, String> keywordMap = internKeywords(keywordNames);
         Set<Keyword> keywords = new HashSet<>();
-        for (String keywordName : keywordNames) {
-            Keyword keyword = keywordRepository.findByName(keywordName)
-                    .orElseGet(() -> {
-                        Keyword newKeyword = Keyword.builder()
-                                .name(keywordName)
-                                .build();
-                        return keywordRepository.save(newKeyword);
-                    });
-            keywords.add(keyword);
-        }
+        keywordMap.keySet().forEach(keywordId -> keywords.add(keywordRepository.getReferenceById(keywordId)));
 
         // 질문 생성 및 저장
         Question question = Question.builder()
@@ -71,8 +109,9 @@ public class AdminService {
                 .build();
 
         question = questionRepository.save(question);
+        publishQuestionChanged(QuestionChangedEvent.Type.CREATED, question, keywordMap, Map.of(), null);
 
-        return QuestionDto.fromEntity(question, false);
+        return QuestionDto.fromEntity(question, false, question.getLgtmCount(), categoryService.getCategory(categoryId));
     }
 
     /**
@@ -91,6 +130,10 @@ public class AdminService {
         // 질문 조회
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("질문", questionId));
+        Map<Long, String> previousKeywords = toKeywordMap(question.getKeywords());
+        Long previousCategoryId = categoryIdOf(question);
+        // 행을 갱신하기 전에 반영되지 않은 증감분을 읽음 (LGTM 반영 트랜잭션과 교착 방지)
+        int lgtmCount = lgtmCountBuffer.questionLgtmCount(questionId, question.getLgtmCount());
 
         // 카테고리 조회 및 설정
         if (categoryId != null) {
@@ -99,49 +142,64 @@ public class AdminService {
             question.setCategory(category);
         }
 
-        // 키워드 처리
+        // 키워드 처리 - 연결된 컬렉션을 교체하지 않고 차이만 반영 (question_keywords 에 추가/삭제된 행만 기록)
+        Map<Long, String> keywordMap = previousKeywords;
         if (keywordNames != null && !keywordNames.isEmpty()) {
-            Set<Keyword> keywords = new HashSet<>();
-            for (String keywordName : keywordNames) {
-                Keyword keyword = keywordRepository.findByName(keywordName)
-                        .orElseGet(() -> {
-                            Keyword newKeyword = Keyword.builder()
-                                    .name(keywordName)
-                                    .build();
-                            return keywordRepository.save(newKeyword);
-                        });
-                keywords.add(keyword);
+            keywordMap = internKeywords(keywordNames);
+            Set<Long> targetIds = keywordMap.keySet();
+            question.getKeywords().removeIf(keyword -> !targetIds.contains(keyword.getId()));
+            for (Long keywordId : targetIds) {
+                if (!previousKeywords.containsKey(keywordId)) {
+                    question.getKeywords().add(keywordRepository.getReferenceById(keywordId));
+                }
             }
-            question.setKeywords(keywords);
         }
 
         // 필드 업데이트
         if (title != null) question.setTitle(title);
         if (content != null) question.setContent(content);
         if (defaultAnswer != null) question.setDefaultAnswer(defaultAnswer);
+        // 키워드만 바뀐 경우에도 수정 시각을 갱신
+        question.setUpdatedAt(LocalDateTime.now());
 
         question = questionRepository.save(question);
+        publishQuestionChanged(QuestionChangedEvent.Type.UPDATED, question, keywordMap, previousKeywords, previousCategoryId);
 
-        return QuestionDto.fromEntity(question, false);
+        return QuestionDto.fromEntity(question, false, lgtmCount, categoryService.getCategory(categoryIdOf(question)));
     }
 
     /**
      * 질문 삭제
+     * 질문을 즉시 숨기고(삭제 표시) 커밋한 뒤, 답변/반응/북마크 등 연관 행을 청크 단위 일괄 DELETE 로 정리
      * @param questionId 질문 ID
+     * @param async 백그라운드 정리 여부 (null 이면 답변 수가 기준 이상일 때 백그라운드로 정리)
+     * @return 백그라운드로 정리하도록 예약했으면 true, 정리까지 끝났으면 false
      */
-    @Transactional
-    public void deleteQuestion(Long questionId) {
-        // 질문 존재 여부 확인
-        if (!questionRepository.existsById(questionId)) {
-            throw new ResourceNotFoundException("질문", questionId);
-        }
+    public boolean deleteQuestion(Long questionId, Boolean async) {
+        // 삭제 표시 트랜잭션 (커밋 이후 색인/카테고리 사전에서 제거)
+        transactionTemplate.executeWithoutResult(status -> {
+            Question question = questionRepository.findById(questionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("질문", questionId));
+            Map<Long, String> previousKeywords = toKeywordMap(question.getKeywords());
+            Long previousCategoryId = categoryIdOf(question);
+
+            if (questionRepository.markDeleted(questionId, LocalDateTime.now()) == 0) {
+                throw new ResourceNotFoundException("질문", questionId);
+            }
+            eventPublisher.publishEvent(QuestionChangedEvent.deleted(questionId, previousKeywords, previousCategoryId));
+        });
 
-        // 질문 삭제 (연관된 북마크, 답변 등은 cascade 설정을 통해 자동 삭제)
-        questionRepository.deleteById(questionId);
+        boolean background = async != null ? async : answerRepository.countByQuestionId(questionId) >= asyncPurgeThreshold;
+        if (background) {
+            questionPurgeService.purgeAsync(questionId);
+        } else {
+            questionPurgeService.purge(questionId);
+        }
+        return background;
     }
 
     /**
-     * 답변 삭제
+     * 답변 삭제 (답변에 남긴 반응도 함께 일괄 삭제)
      * @param answerId 답변 ID
      */
     @Transactional
@@ -151,7 +209,68 @@ public class AdminService {
             throw new ResourceNotFoundException("답변", answerId);
         }
 
-        // 답변 삭제
-        answerRepository.deleteById(answerId);
+        // 반응 삭제 후 답변 삭제 (삭제 전에 답변이 속한 질문의 상세 버전 증가)
+        List<Long> answerIds = List.of(answerId);
+        contentVersionService.touchQuestionsOfAnswers(answerIds);
+        List<Long> reactionIds;
+        while (!(reactionIds = reactionRepository.findIdsByAnswerIdIn(answerIds, REACTION_DELETE_CHUNK_SIZE)).isEmpty()) {
+            reactionRepository.deleteByIdIn(reactionIds);
+        }
+        answerRepository.deleteByIdIn(answerIds);
+    }
+
+    /**
+     * 질문 변경 이벤트 발행 (리스너는 트랜잭션 커밋 이후 실행)
+     * @param type 변경 유형
+     * @param question 변경된 질문 엔티티
+     * @param keywords 변경 후 연결된 키워드 (ID -> 이름)
+     * @param previousKeywords 변경 전 연결된 키워드 (ID -> 이름)
+     * @param previousCategoryId 변경 전 카테고리 ID (등록 시 null)
+     */
+    private void publishQuestionChanged(QuestionChangedEvent.Type type, Question question, Map<Long, String> keywords,
+                                        Map<Long, String> previousKeywords, Long previousCategoryId) {
+        eventPublisher.publishEvent(new QuestionChangedEvent(
+                type,
+                question.getId(),
+                question.getTitle(),
+                question.getContent(),
+                question.getDefaultAnswer(),
+                keywords,
+                previousKeywords,
+                categoryIdOf(question),
+                previousCategoryId
+        ));
+    }
+
+    /**
+     * 키워드 이름 목록을 ID -> 이름 맵으로 변환 (없는 키워드는 생성)
+     * @param keywordNames 키워드 이름 목록 (null 이면 빈 맵)
+     * @return 키워드 ID -> 저장된 이름
+     */
+    private Map<Long, String> internKeywords(List<String> keywordNames) {
+        Map<Long, String> keywords = new LinkedHashMap<>();
+        if (keywordNames != null) {
+            keywordInterningService.intern(keywordNames).values()
+                    .forEach(keyword -> keywords.put(keyword.id(), keyword.name()));
+        }
+        return keywords;
+    }
+
+    /**
+     * 질문의 카테고리 ID (카테고리 프록시를 초기화하지 않음)
+     * @param question 질문 엔티티
+     * @return 카테고리 ID, 카테고리가 없으면 null
+     */
+    private Long categoryIdOf(Question question) {
+        return question.getCategory() != null ? question.getCategory().getId() : null;
+    }
+
+    /**
+     * 키워드 집합을 ID -> 이름 맵으로 변환
+     * @param keywords 키워드 집합
+     * @return 키워드 ID -> 이름 맵
+     */
+    private Map<Long, String> toKeywordMap(Set<Keyword> keywords) {
+        return keywords.stream().collect(Collectors.toMap(Keyword::getId, Keyword::getName));
     }
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.invy.backend.service;
 
 import com.invy.backend.dto.AnswerDto;
+import com.invy.backend.dto.ToggleResultDto;
 import com.invy.backend.entity.Answer;
 import com.invy.backend.entity.Question;
-import com.invy.backend.entity.Reaction;
 import com.invy.backend.entity.User;
 import com.invy.backend.exception.ResourceNotFoundException;
 import com.invy.backend.repository.AnswerRepository;
@@ -28,6 +28,9 @@ public class AnswerService {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final ReactionRepository reactionRepository;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final TrendingQuestionTracker trendingQuestionTracker;
+    private final ContentVersionService contentVersionService;
 
     /**
      * 답변 생성
@@ -55,6 +58,8 @@ public class AnswerService {
                 .build();
 
         answer = answerRepository.save(answer);
+        contentVersionService.touchQuestion(questionId);
+        trendingQuestionTracker.record(question, TrendingQuestionTracker.Signal.ANSWER, 1);
 
         return AnswerDto.fromEntity(answer, false);
     }
@@ -85,37 +90,45 @@ public class AnswerService {
         // 기본 답변을 업데이트
         question.setDefaultAnswer(answer.getContent());
         questionRepository.save(question);
+
+        // 기본 답변은 목록에도 표시되므로 상세와 목록 버전을 모두 증가
+        contentVersionService.touchQuestion(question.getId());
+        contentVersionService.touchLists(question.getCategory() != null ? question.getCategory().getId() : null);
     }
 
     /**
      * 답변 LGTM 반응 토글
+     * 조건부 DELETE 의 영향 행 수로 현재 상태를 판단하고, 없었으면 INSERT IGNORE 로 추가
      * @param answerId 답변 ID
      * @param userId 사용자 ID
+     * @return 토글 이후 LGTM 상태와 LGTM 수
      */
     @Transactional
-    public void toggleLgtm(Long answerId, Long userId) {
-        Answer answer = answerRepository.findById(answerId)
+    public ToggleResultDto toggleLgtm(Long answerId, Long userId) {
+        int persistedCount = answerRepository.findLgtmCountById(answerId)
                 .orElseThrow(() -> new ResourceNotFoundException("답변", answerId));
+        // 반응 행 잠금을 잡기 전에 반영되지 않은 증감분을 읽음 (LGTM 반영 트랜잭션과 교착 방지)
+        int lgtmCount = lgtmCountBuffer.answerLgtmCount(answerId, persistedCount);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
-
-        Reaction reaction = reactionRepository.findByUserAndAnswer(user, answer).orElse(null);
-
-        if (reaction != null) {
+        boolean reacted;
+        int delta;
+        int deleted = reactionRepository.deleteAnswerReaction(userId, answerId);
+        if (deleted > 0) {
             // 이미 LGTM 을 눌렀으면 삭제하고 카운트 감소
-            reactionRepository.delete(reaction);
-            answer.setLgtmCount(answer.getLgtmCount() - 1);
+            reacted = false;
+            delta = -deleted;
         } else {
-            // LGTM 이 없으면 생성하고 카운트 증가
-            reaction = Reaction.builder()
-                    .user(user)
-                    .answer(answer)
-                    .build();
-            reactionRepository.save(reaction);
-            answer.setLgtmCount(answer.getLgtmCount() + 1);
+            // LGTM 이 없으면 생성하고 카운트 증가 (동시 요청이 먼저 추가했으면 증가 없음)
+            reacted = true;
+            delta = reactionRepository.insertAnswerReaction(userId, answerId);
         }
 
-        answerRepository.save(answer);
+        if (delta != 0) {
+            lgtmCountBuffer.addAnswerDelta(answerId, delta);
+            contentVersionService.touchViewer(userId);
+        }
+
+        // 증감분은 커밋 이후 버퍼에 반영되므로 응답에는 직접 더함
+        return new ToggleResultDto(reacted, lgtmCount + delta);
     }
 }
\ No newline at end of file
@@ -1,15 +1,22 @@
 package com.invy.backend.service;
 
+import com.invy.backend.dto.AccountDeletionDto;
 import com.invy.backend.dto.AuthResponse;
 import com.invy.backend.entity.User;
 import com.invy.backend.exception.BusinessException;
 import com.invy.backend.exception.ResourceNotFoundException;
 import com.invy.backend.repository.UserRepository;
 import com.invy.backend.security.JwtTokenProvider;
+import com.invy.backend.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
 
 /**
  * 인증 관련 비즈니스 로직을 처리하는 서비스
@@ -23,48 +30,74 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccountPurgeService accountPurgeService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 로그아웃 처리
-     * JWT 는 상태가 없으므로 서버에서 특별한 처리가 필요 없음
-     * @param email 사용자 이메일
+     * 액세스 토큰과 (전달된 경우) 리프레시 토큰을 폐기하여 만료 전이라도 더 이상 사용할 수 없게 함
+     * @param accessToken 액세스 토큰
+     * @param refreshToken 리프레시 토큰 (선택)
      */
     @Transactional
-    public void logout(String email) {
-        // JWT 는 상태가 없기 때문에 서버 측에서 특별히 처리할 것이 없음
-        // 클라이언트에서 토큰을 삭제하도록 안내
+    public void logout(String accessToken, String refreshToken) {
+        if (StringUtils.hasText(accessToken)) {
+            jwtTokenProvider.revokeToken(accessToken);
+        }
+        if (StringUtils.hasText(refreshToken)) {
+            jwtTokenProvider.revokeToken(refreshToken);
+        }
     }
 
     /**
      * 회원 탈퇴 처리
+     * 탈퇴 요청 시각을 기록하고 사용자의 모든 토큰을 즉시 폐기한 뒤,
+     * 북마크/반응 삭제와 답변 익명화는 커밋 이후 백그라운드에서 청크 단위로 정리
      * @param userId 사용자 ID
+     * @return AccountDeletionDto 탈퇴 처리 상태
      */
-    @Transactional
-    public void deleteAccount(Long userId) {
-        // 사용자 존재 여부 확인
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("사용자", userId);
-        }
+    public AccountDeletionDto deleteAccount(Long userId) {
+        LocalDateTime requestedAt = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+            if (!user.isDeleted()) {
+                user.setDeletedAt(LocalDateTime.now());
+            }
+            jwtTokenProvider.revokeUser(userId);
+            return user.getDeletedAt();
+        });
 
-        userRepository.deleteById(userId);
+        accountPurgeService.purgeAsync(userId);
+        return new AccountDeletionDto(userId, AccountDeletionDto.Status.IN_PROGRESS, requestedAt, 0, 0, 0);
     }
 
     /**
      * 리프레시 토큰을 사용하여 새 액세스 토큰 발급
+     * 사용한 리프레시 토큰은 폐기되어 (rotation) 같은 토큰으로 다시 갱신할 수 없음
      * @param refreshToken 리프레시 토큰
      * @return AuthResponse 새로운 토큰 정보
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthResponse refreshToken(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 토큰은 한 번만 파싱하고 이후에는 같은 클레임을 사용
+        Claims claims = jwtTokenProvider.parseToken(refreshToken);
+        if (claims == null) {
             throw new BusinessException("리프레시 토큰이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED);
         }
 
-        String email = jwtTokenProvider.getUserEmail(refreshToken);
+        // 폐기에 성공한 요청만 갱신 가능 (이미 사용되었거나 로그아웃으로 폐기된 토큰, 토큰 ID가 없는 이전 토큰은 거부)
+        if (!jwtTokenProvider.revokeToken(claims)) {
+            throw new BusinessException("이미 사용되었거나 폐기된 리프레시 토큰입니다.", HttpStatus.UNAUTHORIZED);
+        }
+
+        String email = claims.getSubject();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("이메일이 " + email + "인 사용자를 찾을 수 없습니다."));
+        if (user.isDeleted()) {
+            throw new BusinessException("탈퇴 처리 중인 사용자입니다.", HttpStatus.UNAUTHORIZED);
+        }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(email);
+        String newAccessToken = jwtTokenProvider.createAccessToken(UserPrincipal.create(user));
         String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
 
         return new AuthResponse(newAccessToken, newRefreshToken, "Bearer");
@@ -3,6 +3,7 @@ package com.invy.backend.service;
 import com.invy.backend.dto.BookmarkDto;
 import com.invy.backend.entity.Bookmark;
 import com.invy.backend.entity.Category;
+import com.invy.backend.entity.Question;
 import com.invy.backend.entity.User;
 import com.invy.backend.exception.ResourceNotFoundException;
 import com.invy.backend.repository.BookmarkRepository;
@@ -26,6 +27,8 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final CategoryService categoryService;
 
     /**
      * 사용자별 북마크 조회
@@ -39,7 +42,7 @@ public class BookmarkService {
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
 
         Page<Bookmark> bookmarks = bookmarkRepository.findByUser(user, pageable);
-        return bookmarks.map(BookmarkDto::fromEntity);
+        return bookmarks.map(this::toBookmarkDto);
     }
 
     /**
@@ -58,6 +61,19 @@ public class BookmarkService {
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리", categoryId));
         
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserAndCategory(user, category, pageable);
-        return bookmarks.map(BookmarkDto::fromEntity);
+        return bookmarks.map(this::toBookmarkDto);
+    }
+
+    /**
+     * Bookmark 엔티티를 DTO 로 변환 (반영되지 않은 질문 LGTM 증감분 포함, 카테고리는 사전에서 조회)
+     * @param bookmark 북마크 엔티티
+     * @return 북마크 DTO
+     */
+    private BookmarkDto toBookmarkDto(Bookmark bookmark) {
+        Question question = bookmark.getQuestion();
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        return BookmarkDto.fromEntity(bookmark,
+                lgtmCountBuffer.questionLgtmCount(question.getId(), question.getLgtmCount()),
+                categoryService.getCategory(categoryId));
     }
 }
\ No newline at end of file
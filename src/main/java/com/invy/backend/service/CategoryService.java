@@ -0,0 +1,145 @@
+package com.invy.backend.service;
+
+import com.invy.backend.dto.CategoryDto;
+import com.invy.backend.dto.CategorySummaryDto;
+import com.invy.backend.entity.Category;
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 관련 비즈니스 로직을 처리하는 서비스
+ * - 카테고리 사전 (ID -> CategoryDto) 을 메모리에 보관하여 질문 DTO 변환 시 카테고리 조회를 생략
+ * - 카테고리별 질문 수를 질문 등록/수정/삭제 이벤트로 증분 갱신
+ * - 카테고리 목록과 질문 수 조회
+ *
+ * 카테고리는 거의 변경되지 않으므로 사전은 copy-on-write 로 교체하고,
+ * 다른 인스턴스의 변경이나 직접 수정된 데이터는 주기적 재동기화로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    // ID 순으로 정렬된 카테고리 스냅샷 (읽기 전용)
+    private volatile Map<Long, CategoryDto> categories = Collections.emptyMap();
+
+    private final Map<Long, AtomicInteger> questionCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 카테고리 사전과 질문 수를 DB 에서 다시 읽음
+     * 요청을 처리하기 전에 준비되어야 하므로 빈 초기화 시점에 한 번 실행하고, 이후 주기적으로 재동기화
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.category.refresh-interval-ms:600000}",
+            initialDelayString = "${app.category.refresh-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        Map<Long, CategoryDto> loaded = new LinkedHashMap<>();
+        for (Category category : categoryRepository.findAll(Sort.by("id"))) {
+            loaded.put(category.getId(), CategoryDto.fromEntity(category));
+        }
+
+        Map<Long, Integer> counts = categoryRepository.findAllWithQuestionCount().stream()
+                .collect(Collectors.toMap(CategoryRepository.CategoryUsage::getId,
+                        usage -> (int) usage.getQuestionCount()));
+        for (Long categoryId : loaded.keySet()) {
+            counter(categoryId).set(counts.getOrDefault(categoryId, 0));
+        }
+        questionCounts.keySet().retainAll(loaded.keySet());
+
+        categories = Collections.unmodifiableMap(loaded);
+        log.debug("Category snapshot loaded: {} categories", loaded.size());
+    }
+
+    /**
+     * 카테고리 조회 (메모리 사전 사용)
+     * 사전에 없는 카테고리는 DB 에서 읽어 사전에 추가
+     * @param categoryId 카테고리 ID (null 가능)
+     * @return 카테고리 DTO, ID 가 null 이거나 존재하지 않으면 null
+     */
+    public CategoryDto getCategory(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+
+        CategoryDto category = categories.get(categoryId);
+        if (category == null) {
+            category = categoryRepository.findById(categoryId)
+                    .map(this::remember)
+                    .orElse(null);
+        }
+        return category;
+    }
+
+    /**
+     * 카테고리 존재 여부 확인 (메모리 사전 사용)
+     * @param categoryId 카테고리 ID
+     * @return 존재하면 true
+     */
+    public boolean existsById(Long categoryId) {
+        return getCategory(categoryId) != null;
+    }
+
+    /**
+     * 모든 카테고리와 카테고리별 질문 수 조회 (DB 조회 없음)
+     * @return 카테고리 목록 (ID 순)
+     */
+    public List<CategorySummaryDto> getCategories() {
+        return categories.values().stream()
+                .map(category -> CategorySummaryDto.of(category, counter(category.getId()).get()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 질문 변경 이벤트로 카테고리별 질문 수 반영 (트랜잭션 커밋 이후)
+     * @param event 질문 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (Objects.equals(event.getCategoryId(), event.getPreviousCategoryId())) {
+            return;
+        }
+        if (event.getPreviousCategoryId() != null) {
+            counter(event.getPreviousCategoryId()).updateAndGet(count -> Math.max(0, count - 1));
+        }
+        if (event.getCategoryId() != null) {
+            counter(event.getCategoryId()).incrementAndGet();
+        }
+    }
+
+    /**
+     * 사전에 없던 카테고리를 추가한 새 스냅샷으로 교체
+     * @param category 카테고리 엔티티
+     * @return 카테고리 DTO
+     */
+    private synchronized CategoryDto remember(Category category) {
+        CategoryDto dto = CategoryDto.fromEntity(category);
+        Map<Long, CategoryDto> updated = new LinkedHashMap<>(categories);
+        updated.put(category.getId(), dto);
+        categories = Collections.unmodifiableMap(updated);
+        return dto;
+    }
+
+    private AtomicInteger counter(Long categoryId) {
+        return questionCounts.computeIfAbsent(categoryId, id -> new AtomicInteger());
+    }
+}
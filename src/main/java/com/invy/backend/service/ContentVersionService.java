@@ -0,0 +1,202 @@
+package com.invy.backend.service;
+
+import com.invy.backend.entity.ListVersion;
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.repository.ListVersionRepository;
+import com.invy.backend.repository.QuestionRepository;
+import com.invy.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 조건부 GET 의 ETag 에 사용하는 변경 버전을 유지하는 서비스
+ * - 질문 상세: questions.content_version (질문 수정, 답변 작성/채택/삭제/익명화, 질문/답변 LGTM 수 반영 시 증가)
+ * - 질문 목록: list_versions 의 전체/카테고리 행 (질문 등록/수정/삭제, 기본 답변 변경, 질문 LGTM 수 반영 시 증가)
+ * - 사용자별 응답 상태: users.activity_version (북마크/LGTM 토글 시 증가)
+ * - 변경하는 트랜잭션 안에서 함께 증가시키므로 인스턴스와 무관하게 커밋된 상태와 버전이 일치
+ * - ETag 계산은 기본 키 조회만 사용 (집계 쿼리 없음)
+ *
+ * 증가는 JDBC 로 직접 실행하여 Hibernate 가 2차 캐시 영역 전체를 무효화하지 않도록 함 (버전 컬럼은 엔티티로 읽지 않음)
+ * 목록 버전은 여러 요청이 같은 행을 갱신하므로 트랜잭션마다 범위를 모아 커밋 직전에 한 번씩만 증가 (행 잠금 유지 시간 최소화)
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentVersionService {
+
+    private static final String TOUCH_QUESTION_SQL =
+            "UPDATE questions SET content_version = content_version + 1 WHERE id = ?";
+    private static final String TOUCH_QUESTION_OF_ANSWER_SQL =
+            "UPDATE questions SET content_version = content_version + 1 " +
+            "WHERE id = (SELECT a.question_id FROM answers a WHERE a.id = ?)";
+    private static final String TOUCH_QUESTIONS_OF_AUTHOR_SQL =
+            "UPDATE questions SET content_version = content_version + 1 " +
+            "WHERE id IN (SELECT a.question_id FROM answers a WHERE a.user_id = ? AND a.is_anonymous = FALSE)";
+    private static final String TOUCH_LIST_SQL =
+            "INSERT INTO list_versions (scope_id, version) VALUES (?, 1) ON DUPLICATE KEY UPDATE version = version + 1";
+    private static final String TOUCH_CATEGORY_LIST_OF_QUESTION_SQL =
+            "INSERT INTO list_versions (scope_id, version) " +
+            "SELECT q.category_id, 1 FROM questions q WHERE q.id = ? AND q.category_id IS NOT NULL " +
+            "ON DUPLICATE KEY UPDATE version = version + 1";
+    private static final String TOUCH_VIEWER_SQL =
+            "UPDATE users SET activity_version = activity_version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionRepository questionRepository;
+    private final ListVersionRepository listVersionRepository;
+    private final UserRepository userRepository;
+
+    // 트랜잭션별로 커밋 직전에 증가시킬 목록 범위를 보관하는 리소스 키
+    private final Object pendingListScopesKey = new Object();
+
+    /**
+     * 질문 목록 버전 조회
+     * @param categoryId 카테고리 ID (null 이면 전체 목록)
+     * @return 목록 버전
+     */
+    @Transactional(readOnly = true)
+    public long listVersion(Long categoryId) {
+        return listVersionRepository.findVersionByScopeId(categoryId != null ? categoryId : ListVersion.ALL_SCOPE)
+                .orElse(0L);
+    }
+
+    /**
+     * 질문 상세 버전 조회
+     * @param questionId 질문 ID
+     * @return 버전 Optional 객체 (질문이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> questionVersion(Long questionId) {
+        return questionRepository.findContentVersionById(questionId);
+    }
+
+    /**
+     * 사용자별 응답 상태 버전 조회
+     * @param userId 사용자 ID
+     * @return 버전 (사용자가 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long viewerVersion(Long userId) {
+        return userRepository.findActivityVersionById(userId).orElse(0L);
+    }
+
+    /**
+     * 질문 상세 버전 증가
+     * @param questionId 질문 ID
+     */
+    @Transactional
+    public void touchQuestion(Long questionId) {
+        jdbcTemplate.update(TOUCH_QUESTION_SQL, questionId);
+    }
+
+    /**
+     * 답변이 속한 질문들의 상세 버전 증가
+     * @param answerIds 답변 ID 목록
+     */
+    @Transactional
+    public void touchQuestionsOfAnswers(List<Long> answerIds) {
+        if (!answerIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(TOUCH_QUESTION_OF_ANSWER_SQL, toBatchArgs(answerIds));
+        }
+    }
+
+    /**
+     * 사용자가 실명으로 답변한 질문들의 상세 버전 증가 (작성자 표시 정보가 바뀐 경우)
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void touchQuestionsOfAuthor(Long userId) {
+        jdbcTemplate.update(TOUCH_QUESTIONS_OF_AUTHOR_SQL, userId);
+    }
+
+    /**
+     * 전체 목록과 주어진 카테고리 목록의 버전 증가 (커밋 직전에 범위별로 한 번만 실행)
+     * @param categoryIds 카테고리 ID (null 은 무시)
+     */
+    @Transactional
+    public void touchLists(Long... categoryIds) {
+        Set<Long> scopes = pendingListScopes();
+        scopes.add(ListVersion.ALL_SCOPE);
+        for (Long categoryId : categoryIds) {
+            if (categoryId != null) {
+                scopes.add(categoryId);
+            }
+        }
+    }
+
+    /**
+     * 주어진 질문들이 보이는 전체/카테고리 목록의 버전 증가
+     * 카테고리는 질문 행에서 직접 읽어 질문 엔티티를 로딩하지 않음
+     * @param questionIds 질문 ID 목록
+     */
+    @Transactional
+    public void touchListsOfQuestions(List<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        touchLists();
+        jdbcTemplate.batchUpdate(TOUCH_CATEGORY_LIST_OF_QUESTION_SQL, toBatchArgs(questionIds));
+    }
+
+    /**
+     * 사용자별 응답 상태 버전 증가 (북마크/LGTM 토글)
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void touchViewer(Long userId) {
+        jdbcTemplate.update(TOUCH_VIEWER_SQL, userId);
+    }
+
+    /**
+     * 관리자 질문 등록/수정/삭제를 같은 트랜잭션 안에서 버전에 반영
+     * 삭제된 질문은 조회되지 않으므로 목록 버전만 증가
+     * @param event 질문 변경 이벤트
+     */
+    @EventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (event.getType() == QuestionChangedEvent.Type.UPDATED) {
+            touchQuestion(event.getQuestionId());
+        }
+        touchLists(event.getCategoryId(), event.getPreviousCategoryId());
+    }
+
+    /**
+     * 현재 트랜잭션에서 증가시킬 목록 범위 집합 (처음 호출 시 커밋 직전 실행을 등록, 진행 중인 트랜잭션 필요)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingListScopes() {
+        Set<Long> scopes = (Set<Long>) TransactionSynchronizationManager.getResource(pendingListScopesKey);
+        if (scopes != null) {
+            return scopes;
+        }
+
+        Set<Long> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(pendingListScopesKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jdbcTemplate.batchUpdate(TOUCH_LIST_SQL, toBatchArgs(created));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(pendingListScopesKey);
+            }
+        });
+        return created;
+    }
+
+    private static List<Object[]> toBatchArgs(Collection<Long> ids) {
+        return ids.stream().map(id -> new Object[]{id}).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.invy.backend.service;
+
+import com.invy.backend.entity.Keyword;
+import com.invy.backend.exception.BusinessException;
+import com.invy.backend.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 이름을 ID 로 변환(intern)하는 쓰기 경로 공용 서비스
+ * - 정규화한 이름(앞뒤 공백 제거, 소문자) -> (ID, 저장된 이름) 메모리 사전으로 대부분의 요청을 DB 조회 없이 처리
+ * - 사전에 없는 이름은 한 번의 IN 쿼리로 조회하고, 그래도 없는 이름만 다중 행 INSERT IGNORE 후 다시 조회
+ *   (동시에 같은 키워드를 만들어도 유니크 제약 위반 없이 먼저 저장된 행을 함께 사용)
+ * - 새로 만든 키워드는 트랜잭션 커밋 이후에만 사전에 추가 (롤백된 ID 를 기억하지 않도록)
+ *
+ * 키워드는 삭제되지 않으므로 사전 항목을 무효화하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class KeywordInterningService {
+
+    public static final int MAX_NAME_LENGTH = 255;
+
+    private final KeywordRepository keywordRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, InternedKeyword> dictionary = new ConcurrentHashMap<>();
+
+    /**
+     * 키워드 이름 목록을 ID 로 변환 (없는 키워드는 생성)
+     * @param names 키워드 이름 목록 (빈 이름은 무시)
+     * @return 입력 이름(앞뒤 공백 제거) -> 키워드, 입력 순서 유지
+     */
+    @Transactional
+    public Map<String, InternedKeyword> intern(Collection<String> names) {
+        Map<String, String> normalizedByName = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            String trimmed = name.trim();
+            if (trimmed.length() > MAX_NAME_LENGTH) {
+                throw new BusinessException("키워드는 " + MAX_NAME_LENGTH + "자 이하여야 합니다: " + trimmed);
+            }
+            normalizedByName.put(trimmed, normalize(trimmed));
+        }
+
+        Map<String, InternedKeyword> resolved = new HashMap<>();
+        Map<String, String> misses = new LinkedHashMap<>();
+        normalizedByName.forEach((name, normalized) -> {
+            InternedKeyword keyword = dictionary.get(normalized);
+            if (keyword != null) {
+                resolved.put(normalized, keyword);
+            } else {
+                misses.putIfAbsent(normalized, name);
+            }
+        });
+
+        if (!misses.isEmpty()) {
+            resolveMisses(misses, resolved);
+        }
+
+        Map<String, InternedKeyword> result = new LinkedHashMap<>();
+        normalizedByName.forEach((name, normalized) -> result.put(name, resolved.get(normalized)));
+        return result;
+    }
+
+    /**
+     * 사전에 없는 키워드를 조회하고, 없으면 생성 후 다시 조회
+     * @param misses 정규화한 이름 -> 입력 이름 (생성 시 사용)
+     * @param resolved 조회 결과를 추가할 맵 (정규화한 이름 -> 키워드)
+     */
+    private void resolveMisses(Map<String, String> misses, Map<String, InternedKeyword> resolved) {
+        Map<String, InternedKeyword> found = toDictionary(keywordRepository.findByNameIn(misses.values()));
+        found.forEach(dictionary::putIfAbsent);
+        resolved.putAll(found);
+
+        List<String> missing = new ArrayList<>();
+        misses.forEach((normalized, name) -> {
+            if (!found.containsKey(normalized)) {
+                missing.add(name);
+            }
+        });
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        insertIgnore(missing);
+        // 동시에 생성한 다른 트랜잭션의 행도 보이도록 잠금 읽기로 다시 조회
+        Map<String, InternedKeyword> created = toDictionary(keywordRepository.findByNameInForShare(missing));
+        for (String name : missing) {
+            if (!created.containsKey(normalize(name))) {
+                throw new IllegalStateException("키워드를 생성하지 못했습니다: " + name);
+            }
+        }
+        resolved.putAll(created);
+        afterCommit(() -> created.forEach(dictionary::putIfAbsent));
+    }
+
+    /**
+     * 조회한 키워드를 정규화한 이름 기준으로 변환
+     * DB 정렬 규칙에 따라 대소문자가 다른 이름이 조회될 수 있으므로 정규화한 이름으로 대응
+     * @param keywords 조회한 키워드 목록
+     * @return 정규화한 이름 -> 키워드
+     */
+    private static Map<String, InternedKeyword> toDictionary(List<Keyword> keywords) {
+        Map<String, InternedKeyword> found = new HashMap<>();
+        for (Keyword keyword : keywords) {
+            found.putIfAbsent(normalize(keyword.getName()), new InternedKeyword(keyword.getId(), keyword.getName()));
+        }
+        return found;
+    }
+
+    /**
+     * 다중 행 INSERT IGNORE (이미 존재하는 이름은 name 유니크 키에 의해 무시됨)
+     * 새 행만 추가되므로 2차 캐시 무효화가 필요 없어 JdbcTemplate 로 직접 실행 (현재 트랜잭션에 참여)
+     * @param names 생성할 키워드 이름 목록
+     */
+    private void insertIgnore(List<String> names) {
+        String values = String.join(", ", Collections.nCopies(names.size(), "(?, NOW(), NOW())"));
+        jdbcTemplate.update("INSERT IGNORE INTO keywords (name, created_at, updated_at) VALUES " + values,
+                names.toArray());
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 변환된 키워드 (ID 와 DB 에 저장된 이름)
+     */
+    public record InternedKeyword(Long id, String name) {
+    }
+}
@@ -1,24 +1,30 @@
 package com.invy.backend.service;
 
 import com.invy.backend.dto.KeywordDto;
+import com.invy.backend.dto.KeywordSuggestionDto;
 import com.invy.backend.entity.Keyword;
 import com.invy.backend.repository.KeywordRepository;
+import com.invy.backend.search.KeywordSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 키워드 관련 비즈니스 로직을 처리하는 서비스
  * - 키워드 목록 조회
  * - 키워드 검색
+ * - 키워드 자동완성
  */
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
 
     private final KeywordRepository keywordRepository;
+    private final KeywordSuggestIndex keywordSuggestIndex;
 
     /**
      * 모든 키워드를 이름 기준 오름차순으로 조회 (페이징 처리)
@@ -42,4 +48,15 @@ public class KeywordService {
         Page<Keyword> keywords = keywordRepository.findByNameContainingOrderByNameAsc(query, pageable);
         return keywords.map(KeywordDto::fromEntity);
     }
+
+    /**
+     * 키워드 자동완성 (접두어 일치 우선, 사용 질문 수 순)
+     * 인메모리 사전에서만 조회하며 DB 에 접근하지 않음
+     * @param query 입력 중인 검색어
+     * @param limit 최대 개수
+     * @return 추천 키워드 목록
+     */
+    public List<KeywordSuggestionDto> suggestKeywords(String query, int limit) {
+        return keywordSuggestIndex.suggest(query, limit);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+package com.invy.backend.service;
+
+import com.invy.backend.entity.Question;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 질문/답변 LGTM 수 변경분을 메모리에 누적했다가 주기적으로 일괄 반영하는 write-behind 버퍼
+ * - 대상별 카운터에 증감분을 누적해 인기 질문의 단일 행 경합을 제거
+ *   누적, 꺼내기, 유휴 카운터 제거는 모두 같은 키의 compute 안에서 수행하여 증감분이 유실되지 않음
+ * - 주기적으로 UPDATE ... SET lgtm_count = lgtm_count + ? 를 JDBC 배치로 실행
+ * - 반응(Reaction) 행이 원본 데이터이며, lgtm_count 는 이를 집계한 캐시 값
+ * - 조회 시에는 DB 값에 아직 반영되지 않은 증감분(반영 중인 증감분 포함)을 더해서 사용
+ *   누적분과 반영 중인 증감분은 카운터 하나의 불변 값으로 함께 교체하므로 조회 시 한 번에 일관되게 읽음
+ *   꺼낸 증감분은 커밋될 때까지 반영 중으로 남겨 조회 값이 되돌아가지 않도록 함
+ * - 커밋, 2차 캐시 제거, 반영 중 증감분 제거는 하나의 쓰기 구간에서 실행하고, 조회는 이 구간이 끝난 뒤의 값을 읽음
+ *   커밋된 DB 값을 읽은 조회가 같은 증감분을 반영 중 값으로 한 번 더 더하지 않음
+ *   조회는 대부분 StampedLock 의 낙관적 읽기로 끝나므로 쓰기 구간 밖에서는 대기하지 않음
+ *   DB 행 잠금을 잡은 채로 조회하면 반영 트랜잭션과 교착될 수 있으므로 토글은 DML 이전에 조회
+ * - 반영한 질문은 커밋 직후 2차 캐시에서 한 번 제거 (JDBC 로 직접 갱신하므로 Hibernate 가 알 수 없음)
+ * - 애플리케이션 종료 시 남은 증감분을 모두 반영 (비정상 종료로 유실된 증감분은 LgtmCountRepairJob 이 반응 행으로 복구)
+ * - 반영한 질문/답변이 보이는 상세 및 목록의 변경 버전을 같은 트랜잭션에서 증가 (조건부 GET 용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LgtmCountBuffer {
+
+    private static final String UPDATE_QUESTION_SQL =
+            "UPDATE questions SET lgtm_count = lgtm_count + ?, content_version = content_version + 1 WHERE id = ?";
+    private static final String UPDATE_ANSWER_SQL = "UPDATE answers SET lgtm_count = lgtm_count + ? WHERE id = ?";
+
+    // 이 횟수만큼 연속으로 변경이 없던 카운터는 메모리에서 제거
+    private static final int IDLE_FLUSHES_BEFORE_EVICTION = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContentVersionService contentVersionService;
+
+    private final Map<Long, Counter> questionCounters = new ConcurrentHashMap<>();
+    private final Map<Long, Counter> answerCounters = new ConcurrentHashMap<>();
+
+    // 커밋부터 반영 중 증감분 제거까지를 조회와 배타적으로 실행하는 잠금
+    private final StampedLock publishLock = new StampedLock();
+
+    /**
+     * 질문 LGTM 수 증감분 누적 (진행 중인 트랜잭션이 있으면 커밋 이후 반영)
+     * @param questionId 질문 ID
+     * @param delta 증감분
+     */
+    public void addQuestionDelta(Long questionId, int delta) {
+        afterCommit(() -> add(questionCounters, questionId, delta));
+    }
+
+    /**
+     * 답변 LGTM 수 증감분 누적 (진행 중인 트랜잭션이 있으면 커밋 이후 반영)
+     * @param answerId 답변 ID
+     * @param delta 증감분
+     */
+    public void addAnswerDelta(Long answerId, int delta) {
+        afterCommit(() -> add(answerCounters, answerId, delta));
+    }
+
+    /**
+     * DB 에 저장된 질문 LGTM 수에 아직 반영되지 않은 증감분을 더한 값
+     * @param questionId 질문 ID
+     * @param persisted DB 에 저장된 LGTM 수
+     * @return 현재 LGTM 수
+     */
+    public int questionLgtmCount(Long questionId, int persisted) {
+        return persisted + pending(questionCounters, questionId);
+    }
+
+    /**
+     * DB 에 저장된 답변 LGTM 수에 아직 반영되지 않은 증감분을 더한 값
+     * @param answerId 답변 ID
+     * @param persisted DB 에 저장된 LGTM 수
+     * @return 현재 LGTM 수
+     */
+    public int answerLgtmCount(Long answerId, int persisted) {
+        return persisted + pending(answerCounters, answerId);
+    }
+
+    /**
+     * 대상에 반영되지 않았거나 최근에 반영한 증감분이 있는지 여부 (반응 행 기준 복구 작업이 건너뛸 대상 판단용)
+     * @param questionId 질문 ID
+     * @return 유휴 카운터로 제거되기 전이면 true
+     */
+    public boolean hasPendingQuestionDelta(Long questionId) {
+        return questionCounters.containsKey(questionId);
+    }
+
+    /**
+     * 대상에 반영되지 않았거나 최근에 반영한 증감분이 있는지 여부 (반응 행 기준 복구 작업이 건너뛸 대상 판단용)
+     * @param answerId 답변 ID
+     * @return 유휴 카운터로 제거되기 전이면 true
+     */
+    public boolean hasPendingAnswerDelta(Long answerId) {
+        return answerCounters.containsKey(answerId);
+    }
+
+    /**
+     * 누적된 증감분을 DB 에 일괄 반영
+     * 질문과 답변 배치, 변경 버전 증가를 하나의 트랜잭션으로 실행하고, 실패하면 증감분을 버퍼에 되돌림
+     * 커밋, 2차 캐시 제거, 반영 중 증감분 제거를 쓰기 잠금 안에서 실행하여 조회가 중간 상태를 보지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${app.lgtm.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> questionDeltas = drain(questionCounters);
+        List<Object[]> answerDeltas = drain(answerCounters);
+        if (questionDeltas.isEmpty() && answerDeltas.isEmpty()) {
+            return;
+        }
+
+        long stamp = publishLock.writeLock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!questionDeltas.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_QUESTION_SQL, questionDeltas);
+                    contentVersionService.touchListsOfQuestions(targetIds(questionDeltas));
+                }
+                if (!answerDeltas.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_ANSWER_SQL, answerDeltas);
+                    contentVersionService.touchQuestionsOfAnswers(targetIds(answerDeltas));
+                }
+            });
+            evictQuestions(questionDeltas);
+            settle(questionCounters, questionDeltas);
+            settle(answerCounters, answerDeltas);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush LGTM deltas, will retry: {}", e.getMessage(), e);
+            restore(questionCounters, questionDeltas);
+            restore(answerCounters, answerDeltas);
+            return;
+        } finally {
+            publishLock.unlockWrite(stamp);
+        }
+        log.debug("Flushed LGTM deltas: {} questions, {} answers", questionDeltas.size(), answerDeltas.size());
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 증감분 누적 (같은 키의 drain 과 원자적으로 실행)
+     */
+    private void add(Map<Long, Counter> counters, Long id, long delta) {
+        counters.compute(id, (key, counter) -> {
+            Counter target = counter != null ? counter : new Counter();
+            target.amounts = new Amounts(target.amounts.buffered() + delta, target.amounts.inFlight());
+            target.idleFlushes = 0;
+            return target;
+        });
+    }
+
+    /**
+     * 카운터별 누적값을 반영 중으로 옮기고 배치 파라미터로 변환
+     * 키별 compute 안에서 꺼내므로 동시에 누적되는 증감분은 이번 주기 또는 다음 주기 중 정확히 한 번 반영됨
+     * 오랫동안 변경이 없던 카운터는 같은 compute 안에서 값이 0 일 때만 제거해 메모리 사용량을 제한
+     * @param counters 카운터 맵
+     * @return (증감분, ID) 배치 파라미터 목록
+     */
+    private List<Object[]> drain(Map<Long, Counter> counters) {
+        List<Object[]> deltas = new ArrayList<>();
+        for (Long id : counters.keySet()) {
+            counters.compute(id, (key, counter) -> {
+                if (counter == null) {
+                    return null;
+                }
+                long delta = counter.amounts.buffered();
+                if (delta != 0) {
+                    // 합계가 바뀌지 않도록 누적분과 반영 중 증감분을 한 번에 교체
+                    counter.amounts = new Amounts(0, counter.amounts.inFlight() + delta);
+                    counter.idleFlushes = 0;
+                    deltas.add(new Object[]{delta, key});
+                    return counter;
+                }
+                if (counter.amounts.inFlight() != 0) {
+                    return counter;
+                }
+                return ++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICTION ? null : counter;
+            });
+        }
+        return deltas;
+    }
+
+    /**
+     * LGTM 수가 갱신된 질문을 2차 캐시에서 제거하여 다음 조회 시 DB 값을 읽도록 함
+     * @param questionDeltas 반영한 (증감분, 질문 ID) 목록
+     */
+    private void evictQuestions(List<Object[]> questionDeltas) {
+        if (questionDeltas.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        for (Object[] delta : questionDeltas) {
+            cache.evict(Question.class, delta[1]);
+        }
+    }
+
+    /**
+     * 커밋된 증감분을 반영 중 값에서 제거 (쓰기 잠금 안에서 호출)
+     */
+    private void settle(Map<Long, Counter> counters, List<Object[]> deltas) {
+        for (Object[] delta : deltas) {
+            counters.computeIfPresent((Long) delta[1], (id, counter) -> {
+                counter.amounts = new Amounts(counter.amounts.buffered(), counter.amounts.inFlight() - (Long) delta[0]);
+                return counter;
+            });
+        }
+    }
+
+    /**
+     * 반영에 실패한 증감분을 반영 중에서 누적분으로 되돌림 (다음 주기에 재시도)
+     */
+    private void restore(Map<Long, Counter> counters, List<Object[]> deltas) {
+        for (Object[] delta : deltas) {
+            counters.compute((Long) delta[1], (id, counter) -> {
+                Counter target = counter != null ? counter : new Counter();
+                long value = (Long) delta[0];
+                target.amounts = new Amounts(target.amounts.buffered() + value, target.amounts.inFlight() - value);
+                return target;
+            });
+        }
+    }
+
+    private static List<Long> targetIds(List<Object[]> deltas) {
+        return deltas.stream().map(delta -> (Long) delta[1]).toList();
+    }
+
+    /**
+     * 반영되지 않은 증감분 조회
+     * 반영 쓰기 구간과 겹치면 구간이 끝날 때까지 기다린 뒤 다시 읽음 (커밋된 증감분을 중복으로 더하지 않음)
+     */
+    private int pending(Map<Long, Counter> counters, Long id) {
+        long stamp = publishLock.tryOptimisticRead();
+        Counter counter = counters.get(id);
+        Amounts amounts = counter == null ? Amounts.ZERO : counter.amounts;
+        if (!publishLock.validate(stamp)) {
+            stamp = publishLock.readLock();
+            try {
+                counter = counters.get(id);
+                amounts = counter == null ? Amounts.ZERO : counter.amounts;
+            } finally {
+                publishLock.unlockRead(stamp);
+            }
+        }
+        return (int) amounts.total();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 대상별 누적 카운터
+     * 변경은 모두 해당 키의 compute 안에서만 일어나고, 조회 시에는 amounts 를 한 번만 읽음
+     */
+    private static final class Counter {
+        private volatile Amounts amounts = Amounts.ZERO;
+        private int idleFlushes;
+    }
+
+    /**
+     * 아직 꺼내지 않은 누적분과 꺼내서 반영 중인 증감분 (불변)
+     */
+    private record Amounts(long buffered, long inFlight) {
+        private static final Amounts ZERO = new Amounts(0, 0);
+
+        private long total() {
+            return buffered + inFlight;
+        }
+    }
+}
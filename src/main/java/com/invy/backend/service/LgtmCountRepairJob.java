@@ -0,0 +1,157 @@
+package com.invy.backend.service;
+
+import com.invy.backend.entity.Question;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * 반응(Reaction) 행을 기준으로 질문/답변의 lgtm_count 를 다시 계산하여 복구하는 주기 작업
+ * - LgtmCountBuffer 의 증감분은 비정상 종료 시 유실될 수 있으므로 원본 데이터인 반응 행 수와 비교해 보정
+ * - 전체 행을 ID 기준 keyset 배치로 읽어 반응 행 수와 다른 행만 후보로 기록
+ * - 직전 주기와 같은 불일치(저장 값, 반응 행 수)가 그대로 남아 있고 이 인스턴스에 최근 증감분이 없는 행만 복구
+ *   다른 인스턴스가 아직 반영하지 않은 증감분은 반영 주기(초 단위) 안에 사라지므로 복구 대상이 되지 않음
+ * - 복구는 저장 값과 반응 행 수가 관찰한 값 그대로일 때만 갱신하는 조건부 UPDATE 로 실행 (그 사이 변경이 있으면 건너뜀)
+ * - 복구한 질문/답변이 보이는 상세 및 목록의 변경 버전을 같은 트랜잭션에서 증가하고, 질문은 2차 캐시에서 제거
+ * - 애플리케이션 시작 직후 첫 주기가 실행되어 재시작 이전에 유실된 증감분도 다음 주기에 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LgtmCountRepairJob {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private static final Target QUESTIONS = new Target("questions", "question_id", " AND t.deleted_at IS NULL");
+    private static final Target ANSWERS = new Target("answers", "answer_id", "");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final ContentVersionService contentVersionService;
+
+    // 직전 주기에 관찰한 불일치 (scan 스레드에서만 접근)
+    private Set<Mismatch> previousQuestionMismatches = Set.of();
+    private Set<Mismatch> previousAnswerMismatches = Set.of();
+
+    /**
+     * 불일치 행을 찾아 직전 주기와 같은 불일치만 복구
+     */
+    @Scheduled(fixedDelayString = "${app.lgtm.repair-interval-ms:300000}",
+            initialDelayString = "${app.lgtm.repair-initial-delay-ms:60000}")
+    public synchronized void repair() {
+        Set<Mismatch> questionMismatches = scan(QUESTIONS);
+        Set<Mismatch> answerMismatches = scan(ANSWERS);
+
+        List<Mismatch> questionRepairs =
+                confirmed(questionMismatches, previousQuestionMismatches, lgtmCountBuffer::hasPendingQuestionDelta);
+        List<Mismatch> answerRepairs =
+                confirmed(answerMismatches, previousAnswerMismatches, lgtmCountBuffer::hasPendingAnswerDelta);
+        previousQuestionMismatches = questionMismatches;
+        previousAnswerMismatches = answerMismatches;
+        if (questionRepairs.isEmpty() && answerRepairs.isEmpty()) {
+            return;
+        }
+
+        List<Long> repairedQuestionIds = new ArrayList<>();
+        List<Long> repairedAnswerIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            repairedQuestionIds.addAll(apply(QUESTIONS, questionRepairs));
+            repairedAnswerIds.addAll(apply(ANSWERS, answerRepairs));
+            contentVersionService.touchListsOfQuestions(repairedQuestionIds);
+            contentVersionService.touchQuestionsOfAnswers(repairedAnswerIds);
+        });
+        repairedQuestionIds.forEach(id -> entityManagerFactory.getCache().evict(Question.class, id));
+        log.warn("Repaired lgtm_count from reactions: {} questions, {} answers",
+                repairedQuestionIds.size(), repairedAnswerIds.size());
+    }
+
+    /**
+     * 저장된 lgtm_count 와 반응 행 수가 다른 행 조회 (ID 기준 keyset 배치)
+     */
+    private Set<Mismatch> scan(Target target) {
+        Set<Mismatch> mismatches = new HashSet<>();
+        long afterId = 0L;
+        while (true) {
+            List<Mismatch> batch = jdbcTemplate.query(target.scanSql(),
+                    (rs, rowNum) -> new Mismatch(rs.getLong(1), rs.getInt(2), rs.getLong(3)),
+                    afterId, SCAN_BATCH_SIZE);
+            for (Mismatch row : batch) {
+                if (row.stored() != row.actual()) {
+                    mismatches.add(row);
+                }
+            }
+            if (batch.size() < SCAN_BATCH_SIZE) {
+                return mismatches;
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    /**
+     * 직전 주기에도 같은 값으로 관찰되었고 이 인스턴스에 최근 증감분이 없는 불일치
+     */
+    private static List<Mismatch> confirmed(Set<Mismatch> current, Set<Mismatch> previous, LongPredicate pending) {
+        return current.stream()
+                .filter(previous::contains)
+                .filter(mismatch -> !pending.test(mismatch.id()))
+                .toList();
+    }
+
+    /**
+     * 관찰한 값이 그대로인 행만 반응 행 수로 갱신
+     * @return 갱신된 행 ID 목록
+     */
+    private List<Long> apply(Target target, List<Mismatch> repairs) {
+        List<Long> repaired = new ArrayList<>();
+        for (Mismatch mismatch : repairs) {
+            int updated = jdbcTemplate.update(target.repairSql(),
+                    mismatch.actual(), mismatch.id(), mismatch.stored(), mismatch.actual());
+            if (updated > 0) {
+                repaired.add(mismatch.id());
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 복구 대상 테이블
+     * @param table 테이블 이름
+     * @param reactionColumn 반응 테이블에서 대상을 가리키는 컬럼
+     * @param scanCondition 추가 조회 조건
+     */
+    private record Target(String table, String reactionColumn, String scanCondition) {
+
+        private String reactionCount() {
+            return "(SELECT COUNT(*) FROM reactions r WHERE r." + reactionColumn + " = t.id)";
+        }
+
+        private String scanSql() {
+            return "SELECT t.id, t.lgtm_count, " + reactionCount() + " FROM " + table + " t " +
+                    "WHERE t.id > ?" + scanCondition + " ORDER BY t.id LIMIT ?";
+        }
+
+        private String repairSql() {
+            String versionBump = "questions".equals(table) ? ", content_version = content_version + 1" : "";
+            return "UPDATE " + table + " t SET lgtm_count = ?" + versionBump +
+                    " WHERE t.id = ? AND t.lgtm_count = ? AND " + reactionCount() + " = ?";
+        }
+    }
+
+    /**
+     * 관찰한 불일치 (행 ID, 저장된 lgtm_count, 반응 행 수)
+     */
+    private record Mismatch(long id, int stored, long actual) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.invy.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invy.backend.dto.CreateQuestionRequest;
+import com.invy.backend.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 질문 가져오기 입력을 레코드 단위로 읽는 스트리밍 파서
+ * - NDJSON: 한 줄에 CreateQuestionRequest 형식의 JSON 객체 하나 (빈 줄 무시)
+ * - CSV: 첫 줄은 헤더 (title, content, default_answer, category_id, keywords), 키워드는 '|' 로 구분
+ *   큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표("") 지원
+ *
+ * 한 번에 레코드 하나만 메모리에 올리므로 입력 크기와 무관하게 사용 메모리가 일정함
+ * 형식이 잘못된 레코드는 예외 대신 오류 메시지를 담은 레코드로 반환하여 나머지 레코드는 계속 처리
+ */
+class QuestionImportReader {
+
+    private static final String KEYWORD_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private final QuestionImportService.Format format;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber;
+    private Map<String, Integer> csvColumns;
+
+    QuestionImportReader(BufferedReader reader, QuestionImportService.Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 레코드 읽기
+     * @return 레코드, 입력의 끝이면 null
+     * @throws IOException 입력을 읽는 중 오류 발생 시
+     */
+    ImportRecord next() throws IOException {
+        return format == QuestionImportService.Format.NDJSON ? nextJson() : nextCsv();
+    }
+
+    private ImportRecord nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return ImportRecord.parsed(lineNumber, objectMapper.readValue(line, CreateQuestionRequest.class));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.invalid(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (csvColumns == null) {
+            readCsvHeader();
+        }
+
+        List<String> fields;
+        long startLine;
+        do {
+            startLine = lineNumber + 1;
+            fields = readCsvRow();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() != csvColumns.size()) {
+            return ImportRecord.invalid(startLine,
+                    "CSV 필드 수가 헤더와 다릅니다. (헤더 " + csvColumns.size() + "개, 레코드 " + fields.size() + "개)");
+        }
+
+        String categoryId = field(fields, "category_id");
+        CreateQuestionRequest request = new CreateQuestionRequest();
+        request.setTitle(field(fields, "title"));
+        request.setContent(field(fields, "content"));
+        request.setDefaultAnswer(field(fields, "default_answer"));
+        request.setKeywords(splitKeywords(field(fields, "keywords")));
+        if (categoryId != null && !categoryId.isBlank()) {
+            try {
+                request.setCategoryId(Long.parseLong(categoryId.trim()));
+            } catch (NumberFormatException e) {
+                return ImportRecord.invalid(startLine, "카테고리 ID 가 숫자가 아닙니다: " + categoryId);
+            }
+        }
+        return ImportRecord.parsed(startLine, request);
+    }
+
+    private void readCsvHeader() throws IOException {
+        List<String> header = readCsvRow();
+        if (header == null) {
+            throw new BusinessException("CSV 헤더가 없습니다.");
+        }
+        csvColumns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // defaultAnswer, categoryId 처럼 카멜 표기도 허용
+            String name = header.get(i).trim()
+                    .replaceAll("([a-z])([A-Z])", "$1_$2")
+                    .toLowerCase(Locale.ROOT);
+            csvColumns.put(name, i);
+        }
+        for (String required : List.of("title", "content", "default_answer", "category_id")) {
+            if (!csvColumns.containsKey(required)) {
+                throw new BusinessException("CSV 헤더에 " + required + " 열이 없습니다.");
+            }
+        }
+    }
+
+    /**
+     * CSV 행 하나 읽기 (따옴표 안의 줄바꿈은 같은 행으로 처리)
+     * @return 필드 목록, 입력의 끝이면 null
+     */
+    private List<String> readCsvRow() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // 닫히지 않은 따옴표 - 다음 줄까지 같은 필드
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        return index != null ? fields.get(index) : null;
+    }
+
+    private static List<String> splitKeywords(String keywords) {
+        if (keywords == null || keywords.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keywords.split(KEYWORD_SEPARATOR))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    /**
+     * 입력 레코드 (파싱 실패 시 request 는 null, error 에 사유)
+     */
+    record ImportRecord(long line, CreateQuestionRequest request, String error) {
+
+        static ImportRecord parsed(long line, CreateQuestionRequest request) {
+            return new ImportRecord(line, request, null);
+        }
+
+        static ImportRecord invalid(long line, String error) {
+            return new ImportRecord(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.invy.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invy.backend.dto.CreateQuestionRequest;
+import com.invy.backend.dto.QuestionImportResultDto;
+import com.invy.backend.dto.QuestionImportResultDto.RecordResult;
+import com.invy.backend.entity.Category;
+import com.invy.backend.entity.Keyword;
+import com.invy.backend.entity.Question;
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.exception.BusinessException;
+import com.invy.backend.service.KeywordInterningService.InternedKeyword;
+import com.invy.backend.service.QuestionImportReader.ImportRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 질문 일괄 가져오기 서비스
+ * - NDJSON / CSV 입력을 스트리밍으로 읽어 CHUNK_SIZE 개씩 별도 트랜잭션으로 저장
+ * - 청크의 키워드는 KeywordInterningService 로 한 번에 ID 변환 (사전에 없는 이름만 IN 쿼리로 조회/생성)
+ * - 청크마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 하고, INSERT 는 hibernate.jdbc.batch_size 에 따라 배치 실행
+ * - 레코드별 성공/실패 결과를 반환 (검증 실패 레코드는 건너뛰고, 청크 저장 실패 시 해당 청크만 실패 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionImportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    private final KeywordInterningService keywordInterningService;
+    private final CategoryService categoryService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 질문 일괄 가져오기
+     * @param input 입력 스트림 (UTF-8)
+     * @param format 입력 형식
+     * @return 레코드별 처리 결과
+     */
+    public QuestionImportResultDto importQuestions(InputStream input, Format format) {
+        List<RecordResult> results = new ArrayList<>();
+        List<ImportRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            QuestionImportReader importReader = new QuestionImportReader(reader, format, objectMapper);
+            ImportRecord record;
+            while ((record = importReader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(importChunk(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(importChunk(chunk));
+            }
+        } catch (IOException e) {
+            // 이미 커밋된 청크는 유지됨
+            log.warn("Question import aborted after {} records: {}", results.size(), e.getMessage());
+            throw new BusinessException("가져오기 입력을 읽는 중 오류가 발생했습니다. (처리된 레코드 " + results.size() + "개)");
+        }
+
+        QuestionImportResultDto result = QuestionImportResultDto.of(results);
+        log.info("Imported questions: {} created, {} failed", result.getCreated(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * 청크 하나를 별도 트랜잭션으로 저장
+     * @param chunk 입력 레코드 목록
+     * @return 레코드별 결과 (입력 순서)
+     */
+    private List<RecordResult> importChunk(List<ImportRecord> chunk) {
+        Map<ImportRecord, String> errors = new HashMap<>();
+        for (ImportRecord record : chunk) {
+            String error = validate(record);
+            if (error != null) {
+                errors.put(record, error);
+            }
+        }
+
+        try {
+            Map<ImportRecord, Long> created = transactionTemplate.execute(status -> persistChunk(chunk, errors));
+            return chunk.stream()
+                    .map(record -> errors.containsKey(record)
+                            ? RecordResult.failed(record.line(), errors.get(record))
+                            : RecordResult.created(record.line(), created.get(record)))
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("Question import chunk starting at line {} failed: {}", chunk.get(0).line(), e.getMessage());
+            return chunk.stream()
+                    .map(record -> RecordResult.failed(record.line(),
+                            errors.getOrDefault(record, "청크 저장 중 오류가 발생했습니다: " + e.getMessage())))
+                    .toList();
+        }
+    }
+
+    /**
+     * 검증을 통과한 레코드 저장 (트랜잭션 안에서 실행)
+     * @param chunk 입력 레코드 목록
+     * @param errors 검증 실패 레코드 (저장 대상에서 제외)
+     * @return 레코드 -> 등록된 질문 ID
+     */
+    private Map<ImportRecord, Long> persistChunk(List<ImportRecord> chunk, Map<ImportRecord, String> errors) {
+        List<ImportRecord> valid = chunk.stream().filter(record -> !errors.containsKey(record)).toList();
+        Set<String> names = new LinkedHashSet<>();
+        valid.forEach(record -> names.addAll(keywordNames(record.request())));
+        Map<String, InternedKeyword> keywords = keywordInterningService.intern(names);
+
+        Map<ImportRecord, Question> questions = new HashMap<>();
+        Map<Question, Map<Long, String>> questionKeywordMaps = new HashMap<>();
+        for (ImportRecord record : valid) {
+            CreateQuestionRequest request = record.request();
+            Map<Long, String> keywordMap = new LinkedHashMap<>();
+            Set<Keyword> questionKeywords = new HashSet<>();
+            for (String name : keywordNames(request)) {
+                InternedKeyword keyword = keywords.get(name);
+                if (keywordMap.put(keyword.id(), keyword.name()) == null) {
+                    questionKeywords.add(entityManager.getReference(Keyword.class, keyword.id()));
+                }
+            }
+
+            Question question = Question.builder()
+                    .title(request.getTitle())
+                    .content(request.getContent())
+                    .defaultAnswer(request.getDefaultAnswer())
+                    .category(entityManager.getReference(Category.class, request.getCategoryId()))
+                    .keywords(questionKeywords)
+                    .lgtmCount(0)
+                    .build();
+            entityManager.persist(question);
+            questions.put(record, question);
+            questionKeywordMaps.put(question, keywordMap);
+        }
+        entityManager.flush();
+
+        Map<ImportRecord, Long> created = new HashMap<>();
+        questions.forEach((record, question) -> {
+            created.put(record, question.getId());
+            eventPublisher.publishEvent(createdEvent(question, questionKeywordMaps.get(question)));
+        });
+        entityManager.clear();
+        return created;
+    }
+
+    /**
+     * 레코드 검증 (Bean Validation + 카테고리 존재 여부 + 제목 길이)
+     * @param record 입력 레코드
+     * @return 오류 메시지, 유효하면 null
+     */
+    private String validate(ImportRecord record) {
+        if (record.error() != null) {
+            return record.error();
+        }
+        CreateQuestionRequest request = record.request();
+        if (request == null) {
+            return "레코드가 비어 있습니다.";
+        }
+
+        Set<ConstraintViolation<CreateQuestionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "질문 제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.";
+        }
+        if (keywordNames(request).stream().anyMatch(name -> name.length() > KeywordInterningService.MAX_NAME_LENGTH)) {
+            return "키워드는 " + KeywordInterningService.MAX_NAME_LENGTH + "자 이하여야 합니다.";
+        }
+        if (!categoryService.existsById(request.getCategoryId())) {
+            return "카테고리를 찾을 수 없습니다: " + request.getCategoryId();
+        }
+        return null;
+    }
+
+    private static Set<String> keywordNames(CreateQuestionRequest request) {
+        if (request.getKeywords() == null) {
+            return Set.of();
+        }
+        return request.getKeywords().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static QuestionChangedEvent createdEvent(Question question, Map<Long, String> keywords) {
+        return new QuestionChangedEvent(QuestionChangedEvent.Type.CREATED, question.getId(), question.getTitle(),
+                question.getContent(), question.getDefaultAnswer(), keywords, Map.of(),
+                question.getCategory().getId(), null);
+    }
+
+    /**
+     * 가져오기 입력 형식
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * Content-Type 으로 입력 형식 판별
+         * @param contentType 요청 Content-Type
+         * @return 입력 형식
+         */
+        public static Format fromContentType(String contentType) {
+            if (contentType != null) {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                    return NDJSON;
+                }
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                    return CSV;
+                }
+            }
+            throw new BusinessException("지원하지 않는 가져오기 형식입니다: " + contentType, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.invy.backend.service;
+
+import com.invy.backend.repository.AnswerRepository;
+import com.invy.backend.repository.BookmarkRepository;
+import com.invy.backend.repository.QuestionRepository;
+import com.invy.backend.repository.ReactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 삭제 표시된 질문의 연관 행을 청크 단위 일괄 DELETE 로 정리하는 서비스
+ * - 삭제 순서: 답변 반응 -> 답변 -> 질문 반응 -> 북마크 -> 키워드 연결 -> 질문 행
+ * - 각 청크는 ID 오름차순으로 최대 chunk-size 행을 짧은 별도 트랜잭션에서 삭제 (엔티티 로딩 없음, 잠금 시간 최소화)
+ * - 중간에 중단되어도 질문은 숨겨진 상태로 남고, 주기적 재개 작업이 이어서 정리
+ * - 같은 질문을 동시에 정리하지 않음
+ */
+@Slf4j
+@Service
+public class QuestionPurgeService {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final ReactionRepository reactionRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor purgeExecutor;
+    private final int chunkSize;
+
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    // 재개 작업이 실행기에 넘겨 아직 끝나지 않은 질문 ID (대기 중 또는 실행 중, 완료/취소 시 제거)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public QuestionPurgeService(QuestionRepository questionRepository,
+                                AnswerRepository answerRepository,
+                                ReactionRepository reactionRepository,
+                                BookmarkRepository bookmarkRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("questionPurgeExecutor") TaskExecutor purgeExecutor,
+                                @Value("${app.question-purge.chunk-size:1000}") int chunkSize) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.reactionRepository = reactionRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeExecutor = purgeExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 삭제 표시된 질문 정리 (호출 스레드에서 실행)
+     * @param questionId 질문 ID
+     * @return 정리를 수행했으면 true, 다른 스레드가 이미 정리 중이면 false
+     */
+    public boolean purge(Long questionId) {
+        if (!inProgress.add(questionId)) {
+            return false;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long answers = 0;
+            long reactions = 0;
+
+            // 답변 청크마다 해당 답변들의 반응을 먼저 지우고 답변 삭제
+            List<Long> answerIds;
+            while (!(answerIds = answerRepository.findIdsByQuestionId(questionId, chunkSize)).isEmpty()) {
+                List<Long> chunk = answerIds;
+                reactions += deleteInChunks(() -> reactionRepository.findIdsByAnswerIdIn(chunk, chunkSize),
+                        reactionRepository::deleteByIdIn);
+                answers += inTransaction(() -> answerRepository.deleteByIdIn(chunk));
+            }
+            reactions += deleteInChunks(() -> reactionRepository.findIdsByQuestionId(questionId, chunkSize),
+                    reactionRepository::deleteByIdIn);
+            long bookmarks = deleteInChunks(() -> bookmarkRepository.findIdsByQuestionId(questionId, chunkSize),
+                    bookmarkRepository::deleteByIdIn);
+
+            inTransaction(() -> questionRepository.deleteKeywordLinks(questionId)
+                    + questionRepository.deletePurged(questionId));
+
+            log.info("Purged question {} in {} ms: {} answers, {} reactions, {} bookmarks",
+                    questionId, System.currentTimeMillis() - started, answers, reactions, bookmarks);
+            return true;
+        } finally {
+            inProgress.remove(questionId);
+        }
+    }
+
+    /**
+     * 삭제 표시된 질문을 백그라운드에서 정리
+     * @param questionId 질문 ID
+     */
+    @Async("questionPurgeExecutor")
+    public void purgeAsync(Long questionId) {
+        purgeOrLog(questionId);
+    }
+
+    /**
+     * 중단되었거나 대기열에서 밀린 정리 작업 재개
+     * 정리는 전용 실행기에 넘겨 공유 스케줄러 스레드(LGTM 반영, 토큰 폐기 동기화 등)를 점유하지 않음
+     * 이미 대기 중이거나 실행 중인 질문은 다시 넘기지 않아 대기열이 같은 질문으로 채워지지 않음
+     * 대기열이 가득 차 넘기지 못한 작업은 실행기가 취소하므로 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${app.question-purge.resume-interval-ms:60000}",
+            initialDelayString = "${app.question-purge.resume-interval-ms:60000}")
+    public void resumePending() {
+        for (Long questionId : questionRepository.findDeletedIds()) {
+            if (inProgress.contains(questionId) || !queued.add(questionId)) {
+                continue;
+            }
+            purgeExecutor.execute(new FutureTask<Void>(() -> purgeOrLog(questionId), null) {
+                @Override
+                protected void done() {
+                    queued.remove(questionId);
+                }
+            });
+        }
+    }
+
+    /**
+     * ID 청크를 조회해 삭제하는 작업을 더 이상 없을 때까지 반복 (청크마다 별도 트랜잭션)
+     * @return 삭제된 전체 행 수
+     */
+    private long deleteInChunks(Supplier<List<Long>> nextIds, ToIntFunction<List<Long>> delete) {
+        long total = 0;
+        List<Long> ids;
+        while (!(ids = nextIds.get()).isEmpty()) {
+            List<Long> chunk = ids;
+            total += inTransaction(() -> delete.applyAsInt(chunk));
+        }
+        return total;
+    }
+
+    /**
+     * 정리 실행 (실패는 로그만 남기고 다음 재개 주기에 다시 시도)
+     */
+    private void purgeOrLog(Long questionId) {
+        try {
+            purge(questionId);
+        } catch (RuntimeException e) {
+            log.error("Failed to purge question {} (will retry)", questionId, e);
+        }
+    }
+
+    private int inTransaction(Supplier<Integer> action) {
+        Integer result = transactionTemplate.execute(status -> action.get());
+        return result != null ? result : 0;
+    }
+}
@@ -1,24 +1,48 @@
 package com.invy.backend.service;
 
 import com.invy.backend.dto.AnswerDto;
+import com.invy.backend.dto.CategoryDto;
+import com.invy.backend.dto.CursorPageDto;
 import com.invy.backend.dto.QuestionDetailDto;
 import com.invy.backend.dto.QuestionDto;
+import com.invy.backend.dto.ToggleResultDto;
+import com.invy.backend.dto.TrendingQuestionDto;
 import com.invy.backend.entity.*;
+import com.invy.backend.exception.BusinessException;
 import com.invy.backend.exception.ResourceNotFoundException;
 import com.invy.backend.repository.*;
+import com.invy.backend.search.QuestionSearchIndex;
+import com.invy.backend.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 질문 관련 비즈니스 로직을 처리하는 서비스
  * - 질문 목록 조회
+ * - 질문 목록 커서 기반 조회
  * - 질문 상세 조회
+ * - 질문별 답변 커서 기반 조회 (추천순, 최신순, LGTM 순)
+ * - 질문 전문 검색
+ * - 인기(트렌딩) 질문 조회
+ * - 조건부 GET 용 ETag 계산
  * - 북마크 토글
  * - LGTM 토글
  */
@@ -26,12 +50,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    // 질문 상세 응답에 포함하는 답변 첫 페이지 크기
+    private static final int DETAIL_ANSWER_PAGE_SIZE = 20;
+
     private final QuestionRepository questionRepository;
     private final BookmarkRepository bookmarkRepository;
     private final AnswerRepository answerRepository;
     private final ReactionRepository reactionRepository;
-    private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final LgtmCountBuffer lgtmCountBuffer;
+    private final TrendingQuestionTracker trendingQuestionTracker;
+    private final ContentVersionService contentVersionService;
 
     /**
      * 모든 질문을 제목 기준 오름차순으로 조회 (페이징 처리)
@@ -42,17 +73,7 @@ public class QuestionService {
     @Transactional(readOnly = true)
     public Page<QuestionDto> getAllQuestions(Long userId, Pageable pageable) {
         Page<Question> questions = questionRepository.findAllByOrderByTitleAsc(pageable);
-
-        return questions.map(question -> {
-            boolean bookmarked = false;
-            if (userId != null) {
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    bookmarked = bookmarkRepository.existsByUserAndQuestion(user, question);
-                }
-            }
-            return QuestionDto.fromEntity(question, bookmarked);
-        });
+        return toQuestionDtoPage(questions, userId);
     }
 
     /**
@@ -64,121 +85,460 @@ public class QuestionService {
      */
     @Transactional(readOnly = true)
     public Page<QuestionDto> getQuestionsByCategory(Long categoryId, Long userId, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+        if (!categoryService.existsById(categoryId)) {
+            throw new ResourceNotFoundException("카테고리", categoryId);
+        }
 
+        Category category = categoryRepository.getReferenceById(categoryId);
         Page<Question> questions = questionRepository.findByCategoryOrderByTitleAsc(category, pageable);
+        return toQuestionDtoPage(questions, userId);
+    }
 
-        return questions.map(question -> {
-            boolean bookmarked = false;
-            if (userId != null) {
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    bookmarked = bookmarkRepository.existsByUserAndQuestion(user, question);
-                }
-            }
-            return QuestionDto.fromEntity(question, bookmarked);
-        });
+    /**
+     * 모든 질문을 제목 기준 오름차순으로 커서 기반 조회
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param userId 사용자 ID (null 가능)
+     * @return 질문 커서 페이지 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<QuestionDto> getQuestionsByCursor(String cursor, int size, Long userId) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Question> questions;
+        if (cursor == null) {
+            questions = questionRepository.findFirstByTitleCursor(limit);
+        } else {
+            List<String> key = CursorCodec.decode(cursor, 2);
+            questions = questionRepository.findAfterTitleCursor(key.get(0), CursorCodec.parseId(key.get(1)), limit);
+        }
+        return toQuestionCursorPage(questions, size, userId);
+    }
+
+    /**
+     * 특정 카테고리의 질문을 제목 기준 오름차순으로 커서 기반 조회
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param userId 사용자 ID (null 가능)
+     * @return 질문 커서 페이지 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<QuestionDto> getQuestionsByCategoryAndCursor(Long categoryId, String cursor, int size, Long userId) {
+        if (!categoryService.existsById(categoryId)) {
+            throw new ResourceNotFoundException("카테고리", categoryId);
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Question> questions;
+        if (cursor == null) {
+            questions = questionRepository.findFirstByCategoryAndTitleCursor(categoryId, limit);
+        } else {
+            List<String> key = CursorCodec.decode(cursor, 2);
+            questions = questionRepository.findAfterCategoryAndTitleCursor(
+                    categoryId, key.get(0), CursorCodec.parseId(key.get(1)), limit);
+        }
+        return toQuestionCursorPage(questions, size, userId);
+    }
+
+    /**
+     * 최대 size + 1 개의 질문 조회 결과를 (title, id) 커서 페이지로 변환
+     * @param questions 질문 목록
+     * @param size 페이지 크기
+     * @param userId 사용자 ID (null 가능)
+     * @return 질문 커서 페이지 객체
+     */
+    private CursorPageDto<QuestionDto> toQuestionCursorPage(List<Question> questions, int size, Long userId) {
+        CursorPageDto<Question> page = CursorPageDto.of(questions, size,
+                question -> CursorCodec.encode(question.getTitle(), question.getId()));
+
+        Set<Long> bookmarkedIds = findBookmarkedQuestionIds(userId, page.getContent());
+        return page.map(question -> toQuestionDto(question, bookmarkedIds.contains(question.getId())));
+    }
+
+    /**
+     * 제목/내용/기본 답변 전문 검색 (관련도 순, 페이징 처리)
+     * 인메모리 역색인으로 순위를 매긴 뒤 해당 페이지의 질문만 DB 에서 조회
+     * @param query 검색어
+     * @param userId 사용자 ID (null 가능)
+     * @param pageable 페이징 정보 (정렬은 무시되고 관련도 순으로 고정)
+     * @return 질문 페이지 객체
+     */
+    @Transactional(readOnly = true)
+    public Page<QuestionDto> searchQuestions(String query, Long userId, Pageable pageable) {
+        List<Long> rankedIds = questionSearchIndex.search(query);
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedIds.size());
+        }
+
+        Map<Long, Question> questionsById = questionRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+        List<Question> questions = pageIds.stream()
+                .map(questionsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return toQuestionDtoPage(new PageImpl<>(questions, pageable, rankedIds.size()), userId);
+    }
+
+    /**
+     * 최근 활동 기준 인기 질문 조회 (인메모리 순위 사용, DB 조회 없음)
+     * @param categoryId 카테고리 ID (null 이면 전체)
+     * @param limit 최대 개수
+     * @return 점수 내림차순 인기 질문 목록 (최근 활동이 없는 카테고리는 빈 목록)
+     */
+    public List<TrendingQuestionDto> getTrendingQuestions(Long categoryId, int limit) {
+        return trendingQuestionTracker.top(categoryId, limit).stream()
+                .map(trending -> new TrendingQuestionDto(trending.questionId(), trending.title(),
+                        categoryService.getCategory(trending.categoryId()), trending.score()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 질문 페이지를 DTO 페이지로 변환
+     * 페이지 내 질문들의 북마크 여부는 한 번의 IN 쿼리로 조회
+     * @param questions 질문 페이지 객체
+     * @param userId 사용자 ID (null 가능)
+     * @return 질문 DTO 페이지 객체
+     */
+    private Page<QuestionDto> toQuestionDtoPage(Page<Question> questions, Long userId) {
+        Set<Long> bookmarkedIds = findBookmarkedQuestionIds(userId, questions.getContent());
+        return questions.map(question -> toQuestionDto(question, bookmarkedIds.contains(question.getId())));
+    }
+
+    /**
+     * Question 엔티티를 DTO 로 변환 (반영되지 않은 LGTM 증감분 포함, 카테고리는 사전에서 조회)
+     * @param question 질문 엔티티
+     * @param bookmarked 북마크 여부
+     * @return 질문 DTO
+     */
+    private QuestionDto toQuestionDto(Question question, boolean bookmarked) {
+        int lgtmCount = lgtmCountBuffer.questionLgtmCount(question.getId(), question.getLgtmCount());
+        return QuestionDto.fromEntity(question, bookmarked, lgtmCount, categoryOf(question));
+    }
+
+    /**
+     * 질문의 카테고리를 카테고리 사전에서 조회 (카테고리 프록시를 초기화하지 않음)
+     * @param question 질문 엔티티
+     * @return 카테고리 DTO, 카테고리가 없으면 null
+     */
+    private CategoryDto categoryOf(Question question) {
+        return question.getCategory() != null ? categoryService.getCategory(question.getCategory().getId()) : null;
+    }
+
+    /**
+     * 주어진 질문 목록 중 사용자가 북마크한 질문 ID 조회
+     * @param userId 사용자 ID (null 가능)
+     * @param questions 질문 목록
+     * @return 북마크된 질문 ID 집합 (비로그인 또는 빈 목록이면 빈 집합)
+     */
+    private Set<Long> findBookmarkedQuestionIds(Long userId, List<Question> questions) {
+        if (userId == null || questions.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> questionIds = questions.stream()
+                .map(Question::getId)
+                .collect(Collectors.toList());
+        return bookmarkRepository.findBookmarkedQuestionIds(userId, questionIds);
+    }
+
+    /**
+     * 질문 목록 응답의 ETag 계산 (기본 키 조회만 사용)
+     * 질문 목록 버전과 사용자별 응답 상태 버전을 조합
+     * 페이지/커서 파라미터는 요청 URL 별로 ETag 가 구분되므로 포함하지 않음
+     * 다른 인스턴스에 누적되어 아직 반영되지 않은 LGTM 증감분은 반영(최대 한 주기)된 뒤 목록 버전에 나타남
+     * @param categoryId 카테고리 ID (null 이면 전체 목록)
+     * @param userId 사용자 ID (null 가능)
+     * @return 약한 ETag
+     */
+    @Transactional(readOnly = true)
+    public String getQuestionListETag(Long categoryId, Long userId) {
+        return weakETag(categoryId, contentVersionService.listVersion(categoryId), viewerVersion(userId));
+    }
+
+    /**
+     * 질문 상세 응답의 ETag 계산 (기본 키 조회만 사용)
+     * 질문 상세 버전(질문/답변/LGTM 수 변경)과 사용자별 응답 상태 버전을 조합
+     * @param questionId 질문 ID
+     * @param userId 사용자 ID (null 가능)
+     * @return 약한 ETag, 질문이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public String getQuestionDetailETag(Long questionId, Long userId) {
+        return contentVersionService.questionVersion(questionId)
+                .map(detailVersion -> weakETag(questionId, detailVersion, viewerVersion(userId)))
+                .orElse(null);
+    }
+
+    /**
+     * 사용자별 응답 상태(북마크, LGTM 반응)의 버전
+     * @param userId 사용자 ID (null 가능)
+     * @return 사용자 버전 문자열
+     */
+    private String viewerVersion(Long userId) {
+        if (userId == null) {
+            return "anonymous";
+        }
+        return userId + "@" + contentVersionService.viewerVersion(userId);
+    }
+
+    /**
+     * 버전 구성 요소를 해시한 약한 ETag 생성
+     * @param parts 버전 구성 요소
+     * @return W/"..." 형식의 ETag
+     */
+    private static String weakETag(Object... parts) {
+        String version = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     /**
      * 질문 상세 정보 조회
+     * 사용자와 무관한 상세 정보를 먼저 조립한 뒤, 로그인 사용자의 북마크/LGTM 상태를 덧씌움
      * @param questionId 질문 ID
      * @param userId 사용자 ID (null 가능)
      * @return 질문 상세 정보
      */
     @Transactional(readOnly = true)
     public QuestionDetailDto getQuestionDetail(Long questionId, Long userId) {
+        QuestionDetailDto detail = loadQuestionDetail(questionId);
+
+        if (userId == null) {
+            return detail;
+        }
+        return applyViewerState(detail, userId);
+    }
+
+    /**
+     * 사용자와 무관한 질문 상세 정보 조립
+     * 질문과 키워드는 2차 캐시에서, 카테고리는 카테고리 사전에서 조회하고
+     * 답변(작성자 포함)은 추천순 첫 페이지만 1회 조회하여 답변 수와 무관하게 일정한 비용을 유지
+     * 반환값은 사용자 상태를 포함하지 않으므로 캐시해 재사용할 수 있음
+     * @param questionId 질문 ID
+     * @return 사용자 상태가 비어 있는 질문 상세 정보
+     */
+    private QuestionDetailDto loadQuestionDetail(Long questionId) {
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("질문", questionId));
 
-        boolean bookmarked = false;
-        boolean lgtmReacted = false;
+        CursorPageDto<AnswerDto> answers = loadAnswerPage(questionId, AnswerSort.RANKED, null, DETAIL_ANSWER_PAGE_SIZE);
 
-        if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        int lgtmCount = lgtmCountBuffer.questionLgtmCount(question.getId(), question.getLgtmCount());
+        return QuestionDetailDto.fromEntity(question, false, false, answers, lgtmCount, categoryOf(question));
+    }
 
-            bookmarked = bookmarkRepository.existsByUserAndQuestion(user, question);
-            lgtmReacted = reactionRepository.existsByUserAndQuestion(user, question);
+    /**
+     * 질문의 답변을 커서 기반으로 조회
+     * @param questionId 질문 ID
+     * @param sort 정렬 방식
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param userId 사용자 ID (null 가능)
+     * @return 답변 커서 페이지 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<AnswerDto> getAnswers(Long questionId, AnswerSort sort, String cursor, int size, Long userId) {
+        if (!questionRepository.existsById(questionId)) {
+            throw new ResourceNotFoundException("질문", questionId);
         }
 
-        List<Answer> answers = answerRepository.findByQuestionOrderByIsSelectedDescLgtmCountDescCreatedAtDesc(question);
+        CursorPageDto<AnswerDto> page = loadAnswerPage(questionId, sort, cursor, size);
+        if (userId == null || page.getContent().isEmpty()) {
+            return page;
+        }
 
-        List<AnswerDto> answerDtos = answers.stream()
-                .map(answer -> {
-                    boolean answerLgtmReacted = false;
-                    if (userId != null) {
-                        User user = userRepository.findById(userId).orElse(null);
-                        if (user != null) {
-                            answerLgtmReacted = reactionRepository.existsByUserAndAnswer(user, answer);
-                        }
-                    }
-                    return AnswerDto.fromEntity(answer, answerLgtmReacted);
-                })
+        List<Long> answerIds = page.getContent().stream().map(AnswerDto::getId).collect(Collectors.toList());
+        Set<Long> reactedAnswerIds = reactionRepository.findReactedAnswerIds(userId, answerIds);
+        return page.map(answer -> reactedAnswerIds.contains(answer.getId())
+                ? answer.toBuilder().lgtmReacted(true).build()
+                : answer);
+    }
+
+    /**
+     * 정렬 방식별 인덱스 범위 탐색으로 답변 한 페이지 조회 (사용자 상태 제외)
+     * 커서는 DB 에 저장된 정렬 키 값으로 만들고, 응답의 LGTM 수에는 반영되지 않은 증감분을 포함
+     * @param questionId 질문 ID
+     * @param sort 정렬 방식
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 답변 커서 페이지 객체
+     */
+    private CursorPageDto<AnswerDto> loadAnswerPage(Long questionId, AnswerSort sort, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Answer> answers;
+        if (cursor == null) {
+            answers = switch (sort) {
+                case RANKED -> answerRepository.findFirstRanked(questionId, limit);
+                case NEWEST -> answerRepository.findFirstNewest(questionId, limit);
+                case TOP -> answerRepository.findFirstTop(questionId, limit);
+            };
+        } else {
+            answers = switch (sort) {
+                case RANKED -> {
+                    List<String> key = CursorCodec.decode(cursor, 4);
+                    yield answerRepository.findAfterRanked(questionId, CursorCodec.parseBoolean(key.get(0)),
+                            CursorCodec.parseInt(key.get(1)), CursorCodec.parseDateTime(key.get(2)),
+                            CursorCodec.parseId(key.get(3)), limit);
+                }
+                case NEWEST -> {
+                    List<String> key = CursorCodec.decode(cursor, 2);
+                    yield answerRepository.findAfterNewest(questionId, CursorCodec.parseDateTime(key.get(0)),
+                            CursorCodec.parseId(key.get(1)), limit);
+                }
+                case TOP -> {
+                    List<String> key = CursorCodec.decode(cursor, 3);
+                    yield answerRepository.findAfterTop(questionId, CursorCodec.parseInt(key.get(0)),
+                            CursorCodec.parseDateTime(key.get(1)), CursorCodec.parseId(key.get(2)), limit);
+                }
+            };
+        }
+
+        return CursorPageDto.of(answers, size, sort::cursorOf)
+                .map(answer -> AnswerDto.fromEntity(answer, false,
+                        lgtmCountBuffer.answerLgtmCount(answer.getId(), answer.getLgtmCount())));
+    }
+
+    /**
+     * 질문 상세 정보에 사용자의 북마크/LGTM 상태를 덧씌움
+     * 질문과 답변에 대한 반응은 한 번의 쿼리로 일괄 조회
+     * @param detail 사용자 상태가 비어 있는 질문 상세 정보
+     * @param userId 사용자 ID
+     * @return 사용자 상태가 반영된 질문 상세 정보
+     */
+    private QuestionDetailDto applyViewerState(QuestionDetailDto detail, Long userId) {
+        Long questionId = detail.getId();
+        boolean bookmarked = !bookmarkRepository.findBookmarkedQuestionIds(userId, List.of(questionId)).isEmpty();
+
+        boolean lgtmReacted = false;
+        Set<Long> reactedAnswerIds = new HashSet<>();
+        for (ReactionRepository.ReactionTarget target : reactionRepository.findReactionTargetsInQuestion(userId, questionId)) {
+            if (target.getAnswerId() != null) {
+                reactedAnswerIds.add(target.getAnswerId());
+            } else if (questionId.equals(target.getQuestionId())) {
+                lgtmReacted = true;
+            }
+        }
+
+        List<AnswerDto> answers = detail.getAnswers().stream()
+                .map(answer -> reactedAnswerIds.contains(answer.getId())
+                        ? answer.toBuilder().lgtmReacted(true).build()
+                        : answer)
                 .collect(Collectors.toList());
 
-        return QuestionDetailDto.fromEntity(question, bookmarked, lgtmReacted, answerDtos);
+        return detail.toBuilder()
+                .bookmarked(bookmarked)
+                .lgtmReacted(lgtmReacted)
+                .answers(answers)
+                .build();
     }
 
     /**
      * 질문 북마크 토글
+     * 조건부 DELETE 의 영향 행 수로 현재 상태를 판단하고, 없었으면 INSERT IGNORE 로 추가
      * @param questionId 질문 ID
      * @param userId 사용자 ID
+     * @return 토글 이후 북마크 상태
      */
     @Transactional
-    public void toggleBookmark(Long questionId, Long userId) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new ResourceNotFoundException("질문", questionId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+    public ToggleResultDto toggleBookmark(Long questionId, Long userId) {
+        if (!questionRepository.existsById(questionId)) {
+            throw new ResourceNotFoundException("질문", questionId);
+        }
 
-        Bookmark bookmark = bookmarkRepository.findByUserAndQuestion(user, question).orElse(null);
+        if (bookmarkRepository.deleteByUserIdAndQuestionId(userId, questionId) > 0) {
+            // 북마크가 이미 존재했으므로 삭제됨
+            contentVersionService.touchViewer(userId);
+            trendingQuestionTracker.record(questionId, TrendingQuestionTracker.Signal.BOOKMARK, -1);
+            return new ToggleResultDto(false, null);
+        }
 
-        if (bookmark != null) {
-            // 북마크가 이미 존재하면 삭제
-            bookmarkRepository.delete(bookmark);
-        } else {
-            // 북마크가 없으면 생성
-            bookmark = Bookmark.builder()
-                    .user(user)
-                    .question(question)
-                    .build();
-            bookmarkRepository.save(bookmark);
+        // 북마크가 없었으므로 추가 (동시 요청이 먼저 추가한 경우에도 결과 상태는 북마크됨)
+        if (bookmarkRepository.insertIgnore(userId, questionId) > 0) {
+            contentVersionService.touchViewer(userId);
+            trendingQuestionTracker.record(questionId, TrendingQuestionTracker.Signal.BOOKMARK, 1);
         }
+        return new ToggleResultDto(true, null);
     }
 
     /**
      * 질문 LGTM 반응 토글
+     * 조건부 DELETE 의 영향 행 수로 현재 상태를 판단하고, 없었으면 INSERT IGNORE 로 추가
      * @param questionId 질문 ID
      * @param userId 사용자 ID
+     * @return 토글 이후 LGTM 상태와 LGTM 수
      */
     @Transactional
-    public void toggleLgtm(Long questionId, Long userId) {
-        Question question = questionRepository.findById(questionId)
+    public ToggleResultDto toggleLgtm(Long questionId, Long userId) {
+        int persistedCount = questionRepository.findLgtmCountById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("질문", questionId));
+        // 반응 행 잠금을 잡기 전에 반영되지 않은 증감분을 읽음 (LGTM 반영 트랜잭션과 교착 방지)
+        int lgtmCount = lgtmCountBuffer.questionLgtmCount(questionId, persistedCount);
+
+        boolean reacted;
+        int delta;
+        int deleted = reactionRepository.deleteQuestionReaction(userId, questionId);
+        if (deleted > 0) {
+            // 이미 LGTM 을 눌렀으면 삭제하고 카운트 감소
+            reacted = false;
+            delta = -deleted;
+        } else {
+            // LGTM 이 없으면 생성하고 카운트 증가 (동시 요청이 먼저 추가했으면 증가 없음)
+            reacted = true;
+            delta = reactionRepository.insertQuestionReaction(userId, questionId);
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        if (delta != 0) {
+            lgtmCountBuffer.addQuestionDelta(questionId, delta);
+            contentVersionService.touchViewer(userId);
+            trendingQuestionTracker.record(questionId, TrendingQuestionTracker.Signal.LGTM, Integer.signum(delta));
+        }
 
+        // 증감분은 커밋 이후 버퍼에 반영되므로 응답에는 직접 더함
+        return new ToggleResultDto(reacted, lgtmCount + delta);
+    }
 
-        Reaction reaction = reactionRepository.findByUserAndQuestion(user, question).orElse(null);
+    /**
+     * 답변 정렬 방식
+     * - RANKED: 채택 여부, LGTM 수, 작성일 순 (기본)
+     * - NEWEST: 작성일 최신순
+     * - TOP: LGTM 수, 작성일 순
+     */
+    public enum AnswerSort {
+        RANKED, NEWEST, TOP;
 
-        if (reaction != null) {
-            // 이미 LGTM 을 눌렀으면 삭제하고 카운트 감소
-            reactionRepository.delete(reaction);
-            question.setLgtmCount(question.getLgtmCount() - 1);
-        } else {
-            // LGTM 이 없으면 생성하고 카운트 증가
-            reaction = Reaction.builder()
-                    .user(user)
-                    .question(question)
-                    .build();
-            reactionRepository.save(reaction);
-            question.setLgtmCount(question.getLgtmCount() + 1);
+        /**
+         * 요청 파라미터로 정렬 방식 판별 (대소문자 무시)
+         * @param value 요청 파라미터 값
+         * @return 정렬 방식
+         */
+        public static AnswerSort fromParam(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("지원하지 않는 답변 정렬 방식입니다: " + value);
+            }
         }
 
-        questionRepository.save(question);
+        /**
+         * 페이지 마지막 답변의 정렬 키로 다음 커서 생성
+         * @param answer 답변 엔티티
+         * @return 인코딩된 커서
+         */
+        private String cursorOf(Answer answer) {
+            return switch (this) {
+                case RANKED -> CursorCodec.encode(answer.isSelected(), answer.getLgtmCount(), answer.getCreatedAt(), answer.getId());
+                case NEWEST -> CursorCodec.encode(answer.getCreatedAt(), answer.getId());
+                case TOP -> CursorCodec.encode(answer.getLgtmCount(), answer.getCreatedAt(), answer.getId());
+            };
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,358 @@
+package com.invy.backend.service;
+
+import com.invy.backend.entity.Question;
+import com.invy.backend.event.QuestionChangedEvent;
+import com.invy.backend.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 활동을 시간 감쇠 점수로 집계하여 인기(트렌딩) 질문을 제공하는 인메모리 집계기
+ * - 질문 LGTM 토글, 북마크 토글, 답변 작성을 활동 종류별 가중치로 누적 (취소는 음수로 반영)
+ * - 질문별로 고정 길이 시간 버킷 링 버퍼에 누적하여 집계 구간을 벗어난 활동은 자동으로 제외
+ * - 점수는 버킷 시작 시각 기준 지수 감쇠 합이며, 모든 질문을 같은 기준 시각으로 계산하므로 서로 비교 가능
+ * - 전체 및 카테고리별 상위 N 개를 ConcurrentSkipListSet 에 유지하여 조회 시 DB 를 사용하지 않음
+ * - 주기적으로 기준 시각을 옮겨 전체 순위를 다시 계산 (만료 버킷 제외, 비활성 질문 정리)
+ *   재계산은 쓰기 잠금, 활동/변경 반영은 읽기 잠금으로 배타 실행하여 한 질문이 이전 순위와 새 순위에 나뉘어 들어가지 않음
+ * - 인스턴스별 집계이므로 재시작 시 빈 상태에서 다시 쌓임
+ */
+@Slf4j
+@Component
+public class TrendingQuestionTracker {
+
+    private final QuestionRepository questionRepository;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final double decayPerMilli;
+    private final int topSize;
+
+    // 질문 ID -> 활동 버킷과 표시 정보 (최근 집계 구간에 활동이 있는 질문만 보관)
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile Rankings rankings;
+
+    // 재계산(쓰기)과 활동/변경 반영(읽기)의 배타 실행용, 반영끼리는 entry 잠금으로 직렬화
+    private final ReadWriteLock rankingsLock = new ReentrantReadWriteLock();
+
+    public TrendingQuestionTracker(QuestionRepository questionRepository,
+                                   @Value("${app.trending.bucket-minutes:60}") int bucketMinutes,
+                                   @Value("${app.trending.buckets:24}") int bucketCount,
+                                   @Value("${app.trending.half-life-minutes:360}") int halfLifeMinutes,
+                                   @Value("${app.trending.top-size:100}") int topSize) {
+        this.questionRepository = questionRepository;
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.bucketCount = bucketCount;
+        this.decayPerMilli = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.topSize = topSize;
+        this.rankings = new Rankings(System.currentTimeMillis());
+    }
+
+    /**
+     * 질문 활동 기록 (진행 중인 트랜잭션이 있으면 커밋 이후 반영)
+     * 처음 기록되는 질문은 표시 정보(제목, 카테고리)를 호출 시점에 조회 (2차 캐시)
+     * @param questionId 질문 ID
+     * @param signal 활동 종류
+     * @param direction 1 이면 추가, -1 이면 취소
+     */
+    public void record(Long questionId, Signal signal, int direction) {
+        Entry entry = entries.get(questionId);
+        if (entry == null) {
+            Question question = questionRepository.findById(questionId).orElse(null);
+            if (question == null) {
+                return;
+            }
+            record(question, signal, direction);
+            return;
+        }
+        afterCommit(() -> apply(entry, signal.weight * direction));
+    }
+
+    /**
+     * 질문 활동 기록 (이미 조회한 질문 엔티티 사용)
+     * @param question 질문 엔티티
+     * @param signal 활동 종류
+     * @param direction 1 이면 추가, -1 이면 취소
+     */
+    public void record(Question question, Signal signal, int direction) {
+        Long categoryId = question.getCategory() != null ? question.getCategory().getId() : null;
+        Entry entry = new Entry(question.getId(), question.getTitle(), categoryId);
+        afterCommit(() -> apply(entry, signal.weight * direction));
+    }
+
+    /**
+     * 인기 질문 조회 (DB 조회 없음)
+     * @param categoryId 카테고리 ID (null 이면 전체)
+     * @param limit 최대 개수
+     * @return 점수 내림차순 인기 질문 목록
+     */
+    public List<Trending> top(Long categoryId, int limit) {
+        Rankings current = rankings;
+        NavigableSet<Ranked> ranked = categoryId == null ? current.global : current.byCategory.get(categoryId);
+        if (ranked == null) {
+            return List.of();
+        }
+
+        List<Trending> result = new ArrayList<>(limit);
+        for (Iterator<Ranked> it = ranked.iterator(); it.hasNext() && result.size() < limit; ) {
+            Ranked item = it.next();
+            Entry entry = entries.get(item.questionId());
+            if (entry != null) {
+                result.add(new Trending(item.questionId(), entry.title, entry.categoryId, item.score()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 질문 변경 이벤트 반영 (트랜잭션 커밋 이후)
+     * 삭제된 질문은 제외하고, 제목/카테고리가 바뀐 질문은 표시 정보와 카테고리 순위를 갱신
+     * @param event 질문 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        Entry entry = entries.get(event.getQuestionId());
+        if (entry == null) {
+            return;
+        }
+
+        rankingsLock.readLock().lock();
+        try {
+            Rankings current = rankings;
+            synchronized (entry) {
+                unrank(current, entry);
+                if (event.getType() == QuestionChangedEvent.Type.DELETED) {
+                    entries.remove(event.getQuestionId(), entry);
+                    return;
+                }
+                entry.title = event.getTitle();
+                entry.categoryId = event.getCategoryId();
+                rank(current, entry, System.currentTimeMillis());
+            }
+        } finally {
+            rankingsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 시각을 현재로 옮겨 전체 순위를 다시 계산
+     * 집계 구간을 벗어난 버킷은 점수에서 빠지고, 활동이 남지 않은 질문은 메모리에서 제거
+     * 재계산 도중에는 활동/변경 반영이 대기하므로, 반영은 항상 현재 순위에 대해 이루어짐
+     */
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:60000}")
+    public void refresh() {
+        rankingsLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            Rankings next = new Rankings(now);
+            for (Entry entry : entries.values()) {
+                synchronized (entry) {
+                    if (entry.isIdle(now)) {
+                        entries.remove(entry.questionId, entry);
+                        continue;
+                    }
+                    rank(next, entry, now);
+                }
+            }
+            rankings = next;
+        } finally {
+            rankingsLock.writeLock().unlock();
+        }
+        log.debug("Trending questions refreshed: {} active questions", entries.size());
+    }
+
+    /**
+     * 활동을 버킷에 누적하고 순위 갱신
+     * 전달된 항목이 그사이 정리되었거나 아직 등록되지 않았으면 등록하고, 이미 있으면 기존 항목에 누적
+     */
+    private void apply(Entry candidate, int weight) {
+        rankingsLock.readLock().lock();
+        try {
+            Entry existing = entries.putIfAbsent(candidate.questionId, candidate);
+            Entry entry = existing != null ? existing : candidate;
+            long now = System.currentTimeMillis();
+            Rankings current = rankings;
+            synchronized (entry) {
+                entry.add(now, weight);
+                unrank(current, entry);
+                rank(current, entry, now);
+            }
+        } finally {
+            rankingsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질문의 현재 점수로 전체/카테고리 순위에 등록 (entry 잠금 안에서 호출)
+     */
+    private void rank(Rankings target, Entry entry, long now) {
+        double score = entry.score(target.epochMillis, now);
+        if (score <= 0) {
+            entry.ranked = null;
+            return;
+        }
+        Ranked ranked = new Ranked(entry.questionId, score);
+        entry.ranked = ranked;
+        entry.rankedCategoryId = entry.categoryId;
+        offer(target.global, ranked);
+        if (entry.categoryId != null) {
+            offer(target.byCategory.computeIfAbsent(entry.categoryId, id -> new ConcurrentSkipListSet<>()), ranked);
+        }
+    }
+
+    /**
+     * 질문의 기존 순위 항목 제거 (entry 잠금 안에서 호출)
+     */
+    private void unrank(Rankings target, Entry entry) {
+        Ranked ranked = entry.ranked;
+        if (ranked == null) {
+            return;
+        }
+        target.global.remove(ranked);
+        if (entry.rankedCategoryId != null) {
+            NavigableSet<Ranked> category = target.byCategory.get(entry.rankedCategoryId);
+            if (category != null) {
+                category.remove(ranked);
+            }
+        }
+        entry.ranked = null;
+    }
+
+    /**
+     * 순위에 추가하고 상위 N 개를 넘는 항목은 제거
+     * 밀려난 질문은 다음 활동 시 다시 점수를 계산해 진입
+     */
+    private void offer(NavigableSet<Ranked> ranked, Ranked item) {
+        ranked.add(item);
+        while (ranked.size() > topSize) {
+            ranked.pollLast();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 활동 종류와 가중치
+     */
+    public enum Signal {
+        LGTM(1), BOOKMARK(2), ANSWER(3);
+
+        private final int weight;
+
+        Signal(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 인기 질문 조회 결과
+     */
+    public record Trending(Long questionId, String title, Long categoryId, double score) {
+    }
+
+    /**
+     * 순위 항목 (점수 내림차순, 같으면 질문 ID 오름차순)
+     */
+    private record Ranked(Long questionId, double score) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : questionId.compareTo(other.questionId);
+        }
+    }
+
+    /**
+     * 같은 기준 시각으로 계산한 전체/카테고리별 상위 N 순위
+     */
+    private static final class Rankings {
+        private final long epochMillis;
+        private final NavigableSet<Ranked> global = new ConcurrentSkipListSet<>();
+        private final Map<Long, NavigableSet<Ranked>> byCategory = new ConcurrentHashMap<>();
+
+        private Rankings(long epochMillis) {
+            this.epochMillis = epochMillis;
+        }
+    }
+
+    /**
+     * 질문별 활동 링 버퍼
+     * 슬롯마다 버킷 번호를 함께 저장하여, 재사용되는 슬롯은 쓰기 시점에 초기화
+     * 모든 필드는 entry 잠금 안에서만 접근
+     */
+    private final class Entry {
+        private final Long questionId;
+        private final long[] buckets = new long[bucketCount];
+        private final int[] counts = new int[bucketCount];
+        private String title;
+        private Long categoryId;
+        private Ranked ranked;
+        private Long rankedCategoryId;
+
+        private Entry(Long questionId, String title, Long categoryId) {
+            this.questionId = questionId;
+            this.title = title;
+            this.categoryId = categoryId;
+            Arrays.fill(buckets, -1L);
+        }
+
+        private void add(long now, int weight) {
+            long bucket = now / bucketMillis;
+            int slot = (int) (bucket % bucketCount);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot] += weight;
+        }
+
+        /**
+         * 집계 구간 안의 버킷을 기준 시각 대비 지수 감쇠하여 합산 (음수는 0 으로 처리)
+         */
+        private double score(long epochMillis, long now) {
+            long oldest = now / bucketMillis - bucketCount;
+            double score = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                if (buckets[i] > oldest && counts[i] != 0) {
+                    score += counts[i] * Math.exp(decayPerMilli * (buckets[i] * bucketMillis - epochMillis));
+                }
+            }
+            return Math.max(0, score);
+        }
+
+        private boolean isIdle(long now) {
+            long oldest = now / bucketMillis - bucketCount;
+            for (int i = 0; i < bucketCount; i++) {
+                if (buckets[i] > oldest && counts[i] != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.invy.backend.service;
+
+import com.invy.backend.dto.CursorPageDto;
+import com.invy.backend.dto.UserAnswerDto;
+import com.invy.backend.dto.UserReactionDto;
+import com.invy.backend.repository.AnswerRepository;
+import com.invy.backend.repository.ReactionRepository;
+import com.invy.backend.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자 활동(프로필 화면) 관련 비즈니스 로직을 처리하는 서비스
+ * - 내가 작성한 답변 커서 기반 조회
+ * - 내가 LGTM 한 질문/답변 커서 기반 조회
+ *
+ * 두 목록 모두 (user_id, created_at, id) 인덱스를 범위 탐색하고 필요한 컬럼만 DTO 로 조회하므로
+ * 활동량이 많은 사용자도 페이지 깊이와 무관하게 일정한 비용으로 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class UserActivityService {
+
+    private final AnswerRepository answerRepository;
+    private final ReactionRepository reactionRepository;
+    private final LgtmCountBuffer lgtmCountBuffer;
+
+    /**
+     * 사용자가 작성한 답변을 최신순으로 커서 기반 조회
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 답변 커서 페이지 객체 (LGTM 수는 반영되지 않은 증감분 포함)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserAnswerDto> getMyAnswers(Long userId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<UserAnswerDto> answers;
+        if (cursor == null) {
+            answers = answerRepository.findFirstByUserCursor(userId, limit);
+        } else {
+            List<String> key = CursorCodec.decode(cursor, 2);
+            answers = answerRepository.findAfterByUserCursor(userId, CursorCodec.parseDateTime(key.get(0)),
+                    CursorCodec.parseId(key.get(1)), limit);
+        }
+
+        return CursorPageDto.of(answers, size, answer -> CursorCodec.encode(answer.getCreatedAt(), answer.getId()))
+                .map(answer -> answer.toBuilder()
+                        .lgtmCount(lgtmCountBuffer.answerLgtmCount(answer.getId(), answer.getLgtmCount()))
+                        .build());
+    }
+
+    /**
+     * 사용자가 LGTM 한 질문/답변을 최신순으로 커서 기반 조회
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 next 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 반응 커서 페이지 객체
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserReactionDto> getMyReactions(Long userId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<UserReactionDto> reactions;
+        if (cursor == null) {
+            reactions = reactionRepository.findFirstByUserCursor(userId, limit);
+        } else {
+            List<String> key = CursorCodec.decode(cursor, 2);
+            reactions = reactionRepository.findAfterByUserCursor(userId, CursorCodec.parseDateTime(key.get(0)),
+                    CursorCodec.parseId(key.get(1)), limit);
+        }
+
+        return CursorPageDto.of(reactions, size, reaction -> CursorCodec.encode(reaction.getCreatedAt(), reaction.getId()));
+    }
+}
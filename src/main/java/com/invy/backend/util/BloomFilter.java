@@ -0,0 +1,84 @@
+package com.invy.backend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (동시 추가/조회 가능)
+ * - mightContain 이 false 면 확실히 추가된 적 없음
+ * - true 면 지정한 오탐률 내에서 추가되었을 가능성이 있으므로 정확한 확인이 필요
+ * - 삭제는 지원하지 않으므로 필요하면 새 필터로 재구성
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int numBits;
+    private final int numHashes;
+
+    /**
+     * 예상 원소 수와 오탐률로 필터 생성
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int expected = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.max(Long.SIZE, Math.min(optimalBits, Integer.MAX_VALUE - Long.SIZE));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expected * Math.log(2)));
+        this.bits = new AtomicLongArray((numBits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * 원소 추가
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = bitIndex(hash1 + i * hash2);
+            long mask = 1L << (index % Long.SIZE);
+            bits.getAndAccumulate(index / Long.SIZE, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    /**
+     * 원소 포함 가능성 확인
+     * @param value 확인할 값
+     * @return 추가되었을 가능성이 있으면 true, 확실히 없으면 false
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = bitIndex(hash1 + i * hash2);
+            long mask = 1L << (index % Long.SIZE);
+            if ((bits.get(index / Long.SIZE) & mask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 비트 확산(finalizer)을 적용
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,121 @@
+package com.invy.backend.util;
+
+import com.invy.backend.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서 인코딩/디코딩 유틸리티
+ * - 정렬 키 값들을 각각 URL-safe Base64 로 인코딩해 '.' 으로 연결
+ * - 클라이언트는 커서 내용을 해석하지 않고 그대로 다음 요청에 전달
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ".";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     * @param values 정렬 키 값 목록 (null 불가)
+     * @return 인코딩된 커서
+     */
+    public static String encode(Object... values) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        List<String> parts = new ArrayList<>(values.length);
+        for (Object value : values) {
+            parts.add(encoder.encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+        }
+        return String.join(SEPARATOR, parts);
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값 목록으로 디코딩
+     * @param cursor 인코딩된 커서
+     * @param expectedParts 기대하는 정렬 키 개수
+     * @return 디코딩된 정렬 키 값 목록
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static List<String> decode(String cursor, int expectedParts) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != expectedParts) {
+            throw invalidCursor();
+        }
+
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        List<String> values = new ArrayList<>(parts.length);
+        try {
+            for (String part : parts) {
+                values.add(new String(decoder.decode(part), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+        return values;
+    }
+
+    /**
+     * 커서에 담긴 ID 값 파싱
+     * @param value 디코딩된 커서 값
+     * @return ID 값
+     * @throws BusinessException 숫자가 아닌 경우
+     */
+    public static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 커서에 담긴 정수 값 파싱
+     * @param value 디코딩된 커서 값
+     * @return 정수 값
+     * @throws BusinessException 숫자가 아닌 경우
+     */
+    public static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 커서에 담긴 불리언 값 파싱
+     * @param value 디코딩된 커서 값
+     * @return 불리언 값
+     * @throws BusinessException "true" / "false" 가 아닌 경우
+     */
+    public static boolean parseBoolean(String value) {
+        if (!"true".equals(value) && !"false".equals(value)) {
+            throw invalidCursor();
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * 커서에 담긴 일시 값 파싱 (ISO-8601)
+     * @param value 디코딩된 커서 값
+     * @return 일시 값
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException("유효하지 않은 커서입니다.");
+    }
+}
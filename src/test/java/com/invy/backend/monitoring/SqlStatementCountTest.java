@@ -0,0 +1,435 @@
+package com.invy.backend.monitoring;
+
+import com.invy.backend.entity.Answer;
+import com.invy.backend.entity.Bookmark;
+import com.invy.backend.entity.Category;
+import com.invy.backend.entity.Keyword;
+import com.invy.backend.entity.Question;
+import com.invy.backend.entity.Reaction;
+import com.invy.backend.entity.User;
+import com.invy.backend.repository.AnswerRepository;
+import com.invy.backend.repository.BookmarkRepository;
+import com.invy.backend.repository.CategoryRepository;
+import com.invy.backend.repository.KeywordRepository;
+import com.invy.backend.repository.QuestionRepository;
+import com.invy.backend.repository.ReactionRepository;
+import com.invy.backend.repository.UserRepository;
+import com.invy.backend.search.KeywordSuggestIndex;
+import com.invy.backend.search.QuestionSearchIndex;
+import com.invy.backend.security.UserPrincipal;
+import com.invy.backend.service.CategoryService;
+import com.invy.backend.service.TrendingQuestionTracker;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.invy.backend.support.SqlStatementAssertions.statementCount;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 조회/쓰기 엔드포인트의 요청당 SQL 문 수 검증
+ * - 2차 캐시를 비운 상태(콜드)에서 로그인 사용자로 요청하여 최악의 경우를 고정
+ * - 목록은 페이지 크기보다 적은 질문만 두어 전체 개수 쿼리가 실행되지 않는 경우를 기준으로 함
+ * - 문장 수는 DataSource 수준에서 집계되므로 JdbcTemplate 으로 실행되는 문장도 포함
+ * - 쓰기 엔드포인트는 테스트마다 전용 데이터를 사용하고, 토글은 추가/취소를 모두 검증하여 상태를 되돌림
+ * - 제외: 일괄 가져오기(입력 크기에 비례), 인증 엔드포인트(토큰 필터/폐기 캐시 상태에 따라 달라짐)
+ *
+ * 기대값이 바뀌면 app.sql-budget.endpoints 의 예산도 함께 검토
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    @Autowired
+    private KeywordSuggestIndex keywordSuggestIndex;
+
+    @Autowired
+    private TrendingQuestionTracker trendingQuestionTracker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    private User user;
+    private User admin;
+    private Category category;
+    private Question question;
+    // 북마크/LGTM 이 없는 질문 (토글용)
+    private Question otherQuestion;
+    // 채택된 답변이 없는 질문 (답변 작성/채택, 관리자 수정용)
+    private Question thirdQuestion;
+    // 답변/반응/북마크/키워드가 없는 질문 (관리자 삭제용)
+    private Question disposableQuestion;
+    private Answer toggledAnswer;
+    private Answer selectableAnswer;
+    private Answer disposableAnswer;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = userRepository.save(User.builder()
+                    .email("sql-count@invy.test")
+                    .name("SQL Count")
+                    .provider(User.AuthProvider.GOOGLE)
+                    .providerId("sql-count")
+                    .role(User.Role.ROLE_USER)
+                    .build());
+            admin = userRepository.save(User.builder()
+                    .email("sql-count-admin@invy.test")
+                    .name("SQL Count Admin")
+                    .provider(User.AuthProvider.GOOGLE)
+                    .providerId("sql-count-admin")
+                    .role(User.Role.ROLE_ADMIN)
+                    .build());
+            category = categoryRepository.save(Category.builder().name("Backend").build());
+            Keyword transaction = keywordRepository.save(Keyword.builder().name("transaction").build());
+            Keyword index = keywordRepository.save(Keyword.builder().name("index").build());
+
+            List<Question> questions = new ArrayList<>();
+            for (String title : List.of("Connection pool", "Isolation level", "Covering index")) {
+                questions.add(questionRepository.save(Question.builder()
+                        .title(title)
+                        .content(title + " content")
+                        .defaultAnswer(title + " answer")
+                        .category(category)
+                        .keywords(new HashSet<>(List.of(transaction, index)))
+                        .build()));
+            }
+            question = questions.get(0);
+            otherQuestion = questions.get(1);
+            thirdQuestion = questions.get(2);
+            disposableQuestion = questionRepository.save(Question.builder()
+                    .title("Disposable")
+                    .content("Disposable content")
+                    .defaultAnswer("Disposable answer")
+                    .category(category)
+                    .build());
+
+            for (int i = 0; i < 3; i++) {
+                Answer answer = answerRepository.save(Answer.builder()
+                        .content("answer " + i)
+                        .question(question)
+                        .user(user)
+                        .build());
+                if (i == 0) {
+                    reactionRepository.save(Reaction.builder().user(user).answer(answer).build());
+                } else if (i == 1) {
+                    toggledAnswer = answer;
+                }
+            }
+            reactionRepository.save(Reaction.builder().user(user).question(question).build());
+            bookmarkRepository.save(Bookmark.builder().user(user).question(question).build());
+
+            selectableAnswer = answerRepository.save(Answer.builder()
+                    .content("selectable answer")
+                    .question(thirdQuestion)
+                    .user(user)
+                    .build());
+            disposableAnswer = answerRepository.save(Answer.builder()
+                    .content("disposable answer")
+                    .question(thirdQuestion)
+                    .user(user)
+                    .build());
+        });
+        categoryService.reload();
+        // 인메모리 색인은 애플리케이션 시작 시(시드 이전) 만들어지므로 다시 구성
+        questionSearchIndex.rebuild();
+        keywordSuggestIndex.rebuild();
+        // 토글 대상 질문을 인기 질문 집계에 미리 등록 (처음 기록되는 질문의 표시 정보 조회를 제외)
+        trendingQuestionTracker.record(otherQuestion, TrendingQuestionTracker.Signal.ANSWER, 1);
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void questionList() throws Exception {
+        // ETag (목록 버전, 사용자 버전) + 질문 페이지 + 북마크 여부 + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/questions").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void questionCursor() throws Exception {
+        // ETag (목록 버전, 사용자 버전) + 질문 페이지 + 북마크 여부 + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/questions/cursor").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void questionDetail() throws Exception {
+        // ETag (상세 버전, 사용자 버전) + 질문 + 답변 첫 페이지(작성자 포함) + 키워드 + 북마크 여부 + 반응 대상
+        mockMvc.perform(get("/api/v1/questions/{questionId}", question.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(7));
+    }
+
+    @Test
+    void questionAnswers() throws Exception {
+        // ETag (상세 버전, 사용자 버전) + 질문 존재 여부 + 답변 페이지(작성자 포함) + 반응한 답변
+        mockMvc.perform(get("/api/v1/questions/{questionId}/answers", question.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void trendingQuestions() throws Exception {
+        mockMvc.perform(get("/api/v1/questions/trending"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void myAnswers() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me/answers").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void myReactions() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me/reactions").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void bookmarks() throws Exception {
+        // 사용자 + 북마크 페이지(질문 포함) + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/bookmarks").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void categories() throws Exception {
+        mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void categoryQuestionList() throws Exception {
+        // ETag (목록 버전, 사용자 버전) + 질문 페이지 + 북마크 여부 + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/questions/category/{categoryId}", category.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void categoryQuestionCursor() throws Exception {
+        // ETag (목록 버전, 사용자 버전) + 질문 페이지 + 북마크 여부 + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/questions/category/{categoryId}/cursor", category.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void questionSearch() throws Exception {
+        // 인메모리 색인으로 찾은 질문 ID 조회 + 북마크 여부 + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/questions/search").param("query", "Connection").with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void keywords() throws Exception {
+        mockMvc.perform(get("/api/v1/keywords"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void keywordSearch() throws Exception {
+        mockMvc.perform(get("/api/v1/keywords/search").param("query", "trans"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void keywordSuggest() throws Exception {
+        mockMvc.perform(get("/api/v1/keywords/suggest").param("query", "trans"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void bookmarksByCategory() throws Exception {
+        // 사용자 + 카테고리 + 북마크 페이지(질문 포함) + 키워드 일괄 로딩
+        mockMvc.perform(get("/api/v1/bookmarks/category/{categoryId}", category.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+    }
+
+    @Test
+    void bookmarkToggle() throws Exception {
+        // 질문 존재 여부 + 조건부 DELETE + INSERT IGNORE + 사용자 버전
+        mockMvc.perform(post("/api/v1/questions/{questionId}/bookmark", otherQuestion.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+        // 질문 존재 여부 + 조건부 DELETE + 사용자 버전
+        mockMvc.perform(post("/api/v1/questions/{questionId}/bookmark", otherQuestion.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void questionLgtmToggle() throws Exception {
+        // LGTM 수 + 조건부 DELETE + INSERT IGNORE + 사용자 버전 (LGTM 수 증감은 버퍼에서 주기적으로 반영)
+        mockMvc.perform(post("/api/v1/questions/{questionId}/lgtm", otherQuestion.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+        // LGTM 수 + 조건부 DELETE + 사용자 버전
+        mockMvc.perform(post("/api/v1/questions/{questionId}/lgtm", otherQuestion.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void answerLgtmToggle() throws Exception {
+        // LGTM 수 + 조건부 DELETE + INSERT IGNORE + 사용자 버전
+        mockMvc.perform(post("/api/v1/answers/{answerId}/lgtm", toggledAnswer.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+        // LGTM 수 + 조건부 DELETE + 사용자 버전
+        mockMvc.perform(post("/api/v1/answers/{answerId}/lgtm", toggledAnswer.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void answerCreate() throws Exception {
+        // 질문 + 사용자 + 상세 버전 + 답변 INSERT (ID 는 시드에서 할당받은 블록 사용)
+        mockMvc.perform(post("/api/v1/answers").with(loggedIn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"questionId\": " + thirdQuestion.getId() + ", \"content\": \"new answer\"}"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+    }
+
+    @Test
+    void answerSelect() throws Exception {
+        // 답변 + 기존 채택 답변 + 질문 + 상세 버전 + 목록 버전 + 답변/질문 UPDATE
+        mockMvc.perform(post("/api/v1/answers/{answerId}/select", selectableAnswer.getId()).with(loggedIn()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(7));
+    }
+
+    @Test
+    void adminQuestionCreate() throws Exception {
+        // 카테고리 + 목록 버전 + 질문 INSERT (키워드 없음)
+        mockMvc.perform(post("/api/v1/admin/questions").with(asAdmin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Deadlock\", \"content\": \"Deadlock content\", " +
+                                "\"defaultAnswer\": \"Deadlock answer\", \"categoryId\": " + category.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void adminQuestionUpdate() throws Exception {
+        // 질문 + 키워드 + 상세 버전 + 목록 버전 + 질문 UPDATE
+        mockMvc.perform(put("/api/v1/admin/questions/{questionId}", thirdQuestion.getId()).with(asAdmin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Covering index (updated)\"}"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(5));
+    }
+
+    @Test
+    void adminQuestionDelete() throws Exception {
+        // 삭제 표시 (질문 + 키워드 + UPDATE + 목록 버전)
+        // + 정리 (답변/반응/북마크 청크 조회 + 키워드 연결 삭제 + 질문 삭제)
+        mockMvc.perform(delete("/api/v1/admin/questions/{questionId}", disposableQuestion.getId())
+                        .param("async", "false").with(asAdmin()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(9));
+    }
+
+    @Test
+    void adminAnswerDelete() throws Exception {
+        // 답변 존재 여부 + 상세 버전 + 반응 청크 조회 + 답변 삭제
+        mockMvc.perform(delete("/api/v1/admin/answers/{answerId}", disposableAnswer.getId()).with(asAdmin()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(4));
+    }
+
+    @Test
+    void adminAccountDeletion() throws Exception {
+        // 삭제가 끝난(존재하지 않는) 사용자
+        mockMvc.perform(get("/api/v1/admin/users/{userId}/deletion", Long.MAX_VALUE).with(asAdmin()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(1));
+    }
+
+    private RequestPostProcessor loggedIn() {
+        return as(user);
+    }
+
+    private RequestPostProcessor asAdmin() {
+        return as(admin);
+    }
+
+    private static RequestPostProcessor as(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
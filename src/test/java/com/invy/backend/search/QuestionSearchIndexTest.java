@@ -0,0 +1,50 @@
+package com.invy.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 검색 색인의 한글 부분 일치 검증 (DB 미사용, index 로 직접 색인)
+ */
+class QuestionSearchIndexTest {
+
+    private QuestionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new QuestionSearchIndex(null);
+        index.index(1L, "데드락이란 무엇인가요?", "두 트랜잭션이 서로의 락을 기다리는 상태", "락 획득 순서를 맞춥니다.");
+        index.index(2L, "커넥션 풀", "미리 만들어 둔 커넥션을 재사용", "풀 크기를 조정합니다.");
+    }
+
+    @Test
+    void singleCharacterQueryMatchesInsideWords() {
+        // "락" 은 "데드락", "락을" 안에만 있음 (기본 답변의 "락" 단어도 포함)
+        assertThat(index.search("락")).containsExactly(1L);
+        // "풀" 은 제목과 기본 답변에 있고, "커" 는 "커넥션" 안에만 있음
+        assertThat(index.search("풀")).containsExactly(2L);
+        assertThat(index.search("커")).containsExactly(2L);
+    }
+
+    @Test
+    void multiCharacterQueryUsesBigrams() {
+        assertThat(index.search("데드락")).containsExactly(1L);
+        assertThat(index.search("커넥션")).containsExactly(2L);
+        assertThat(index.search("트랜잭션 커넥션")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void unknownQueryReturnsNothing() {
+        assertThat(index.search("인덱스")).isEmpty();
+        assertThat(index.search("?!")).isEmpty();
+    }
+
+    @Test
+    void queryTokensDoNotIncludeUnigramsOfLongerRuns() {
+        assertThat(NGramTokenizer.tokenizeQuery("데드락")).containsExactly("데드", "드락");
+        assertThat(NGramTokenizer.tokenizeQuery("락")).containsExactly("락");
+        assertThat(NGramTokenizer.tokenize("데드락")).containsExactlyInAnyOrder("데", "드", "락", "데드", "드락");
+    }
+}
@@ -0,0 +1,73 @@
+package com.invy.backend.support;
+
+import com.invy.backend.monitoring.SqlRequestStats;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 요청당 SQL 문 수를 검증하기 위한 헬퍼
+ * - MockMvc 요청: SqlBudgetFilter 가 남긴 요청 속성으로 검증
+ *   예) mockMvc.perform(get("/api/v1/questions/1")).andExpect(statementCount(6))
+ * - 서비스 호출 등 임의 코드: capture 로 실행 중의 SQL 을 집계
+ *
+ * 실패 메시지에는 문장 형태별 실행 횟수가 포함되어 어떤 쿼리가 늘었는지 바로 확인 가능
+ * 문장은 DataSource 수준(SqlStatsDataSource)에서 집계되므로 Hibernate 와 JdbcTemplate 문장을 모두 포함
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * 요청에서 실행된 SQL 문 수가 정확히 일치하는지 검증
+     * @param expected 기대 문장 수
+     * @return MockMvc 결과 검증기
+     */
+    public static ResultMatcher statementCount(int expected) {
+        return result -> {
+            SqlRequestStats stats = (SqlRequestStats) result.getRequest().getAttribute(SqlRequestStats.REQUEST_ATTRIBUTE);
+            assertThat(stats)
+                    .as("SQL 통계가 없습니다. SqlBudgetFilter 가 MockMvc 에 등록되었는지 확인하세요.")
+                    .isNotNull();
+            assertStatementCount(stats, expected);
+        };
+    }
+
+    /**
+     * 주어진 코드를 실행하는 동안의 SQL 문을 집계
+     * 요청 처리 중(이미 집계 중인 스레드)에는 사용하지 않음
+     * @param action 실행할 코드
+     * @return SQL 통계
+     */
+    public static SqlRequestStats capture(Runnable action) {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            action.run();
+        } finally {
+            SqlRequestStats.end();
+        }
+        return stats;
+    }
+
+    /**
+     * SQL 통계의 문장 수가 정확히 일치하는지 검증
+     * @param stats SQL 통계
+     * @param expected 기대 문장 수
+     */
+    public static void assertStatementCount(SqlRequestStats stats, int expected) {
+        assertThat(stats.getStatementCount())
+                .as("실행된 SQL 문 수\n%s", describe(stats))
+                .isEqualTo(expected);
+    }
+
+    private static String describe(SqlRequestStats stats) {
+        return stats.getStatementCounts().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}